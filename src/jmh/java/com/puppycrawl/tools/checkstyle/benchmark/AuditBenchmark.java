@@ -0,0 +1,109 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2026 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.ConfigurationLoader;
+import com.puppycrawl.tools.checkstyle.PropertiesExpander;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+
+/**
+ * Measures the time of a full audit of all files of the corpus with a bundled configuration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AuditBenchmark {
+
+    /** The configuration to audit with. */
+    @Param({"/sun_checks.xml", "/google_checks.xml"})
+    public String config;
+
+    /** The directory of the Java files to audit. */
+    @Param(BenchmarkCorpus.DEFAULT_CORPUS)
+    public String corpus;
+
+    /** The files to audit. */
+    private List<File> files;
+
+    /** The checker configured with the configuration. */
+    private Checker checker;
+
+    /**
+     * Configures the checker and loads the corpus.
+     *
+     * @throws IOException if the corpus can not be read.
+     * @throws CheckstyleException if the configuration can not be loaded.
+     */
+    @Setup
+    public void setUp() throws IOException, CheckstyleException {
+        files = BenchmarkCorpus.loadParsableFiles(corpus).stream()
+                .map(FileText::getFile)
+                .toList();
+        final Configuration configuration = ConfigurationLoader.loadConfiguration(config,
+                new PropertiesExpander(System.getProperties()));
+        checker = new Checker();
+        checker.setModuleClassLoader(Checker.class.getClassLoader());
+        checker.configure(configuration);
+    }
+
+    /**
+     * Destroys the checker.
+     */
+    @TearDown
+    public void tearDown() {
+        checker.destroy();
+    }
+
+    /**
+     * Audits the files.
+     *
+     * @return the number of errors.
+     * @throws CheckstyleException if the audit fails.
+     */
+    @Benchmark
+    public int audit() throws CheckstyleException {
+        return checker.process(files);
+    }
+
+}
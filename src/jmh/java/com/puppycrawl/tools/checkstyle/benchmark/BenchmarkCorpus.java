@@ -0,0 +1,94 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2026 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.puppycrawl.tools.checkstyle.JavaParser;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+
+/**
+ * Loads the Java files the benchmarks are run on.
+ */
+final class BenchmarkCorpus {
+
+    /** The default corpus, relative to the project directory. */
+    /* package */ static final String DEFAULT_CORPUS =
+            "src/test/resources/com/puppycrawl/tools/checkstyle/checks/coding";
+
+    /** Prevent instantiation. */
+    private BenchmarkCorpus() {
+    }
+
+    /**
+     * Loads the Java files of a directory and its subdirectories, which can be parsed.
+     * The files are sorted by path, so every run uses the same order.
+     *
+     * @param directory the directory of the corpus.
+     * @return the text of the files.
+     * @throws IOException if the directory can not be read.
+     */
+    /* package */ static List<FileText> loadParsableFiles(String directory) throws IOException {
+        final List<Path> paths;
+        try (Stream<Path> stream = Files.walk(Path.of(directory))) {
+            paths = stream
+                    .filter(path -> path.toString().endsWith(".java"))
+                    .sorted()
+                    .toList();
+        }
+        final List<FileText> result = new ArrayList<>();
+        for (Path path : paths) {
+            final FileText text = new FileText(path.toFile(), StandardCharsets.UTF_8.name());
+            if (isParsable(text)) {
+                result.add(text);
+            }
+        }
+        if (result.isEmpty()) {
+            throw new IllegalStateException("No Java files found in " + directory);
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether a file can be parsed.
+     *
+     * @param text the text of the file.
+     * @return {@code true} if the file is valid Java source.
+     */
+    private static boolean isParsable(FileText text) {
+        boolean result = true;
+        try {
+            JavaParser.parse(new FileContents(text));
+        }
+        catch (CheckstyleException | IllegalStateException exc) {
+            result = false;
+        }
+        return result;
+    }
+
+}
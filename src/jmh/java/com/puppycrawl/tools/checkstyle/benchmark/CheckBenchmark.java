@@ -0,0 +1,180 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2026 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.DefaultContext;
+import com.puppycrawl.tools.checkstyle.JavaParser;
+import com.puppycrawl.tools.checkstyle.PackageObjectFactory;
+import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.utils.TokenUtil;
+
+/**
+ * Measures the time a single check spends visiting the ASTs of all files of the corpus.
+ * The files are parsed before the measurement, so only the walk and the check are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CheckBenchmark {
+
+    /** The name of the check, as it is used in a configuration. */
+    @Param({
+        "ConstantName",
+        "EmptyLineSeparator",
+        "FinalLocalVariable",
+        "Indentation",
+        "JavadocMethod",
+        "MagicNumber",
+        "RequireThis",
+        "WhitespaceAround",
+    })
+    public String check;
+
+    /** The directory of the Java files to check. */
+    @Param(BenchmarkCorpus.DEFAULT_CORPUS)
+    public String corpus;
+
+    /** The files to check. */
+    private final List<ParsedFile> files = new ArrayList<>();
+
+    /** The tokens the check is registered for. */
+    private final BitSet tokens = new BitSet();
+
+    /** The check instance. */
+    private AbstractCheck checkInstance;
+
+    /**
+     * Creates the check and parses the corpus.
+     *
+     * @throws IOException if the corpus can not be read.
+     * @throws CheckstyleException if the check can not be created or a file can not be parsed.
+     */
+    @Setup
+    public void setUp() throws IOException, CheckstyleException {
+        final PackageObjectFactory factory = new PackageObjectFactory(
+                Checker.class.getPackage().getName(), Checker.class.getClassLoader());
+        checkInstance = (AbstractCheck) factory.createModule(check);
+        final DefaultContext context = new DefaultContext();
+        context.add("severity", "error");
+        context.add("tabWidth", "8");
+        checkInstance.contextualize(context);
+        checkInstance.configure(new DefaultConfiguration(check));
+        checkInstance.init();
+        for (int token : checkInstance.getDefaultTokens()) {
+            tokens.set(token);
+        }
+
+        for (FileText text : BenchmarkCorpus.loadParsableFiles(corpus)) {
+            final FileContents contents = new FileContents(text);
+            DetailAST ast = JavaParser.parse(contents);
+            if (checkInstance.isCommentNodesRequired()) {
+                ast = JavaParser.appendHiddenCommentNodes(ast);
+            }
+            files.add(new ParsedFile(contents, ast));
+        }
+    }
+
+    /**
+     * Destroys the check.
+     */
+    @TearDown
+    public void tearDown() {
+        checkInstance.destroy();
+    }
+
+    /**
+     * Walks the ASTs of the files and notifies the check like {@code TreeWalker} does.
+     *
+     * @param blackhole the sink of the violations.
+     */
+    @Benchmark
+    public void visit(Blackhole blackhole) {
+        for (ParsedFile file : files) {
+            checkInstance.setFileContents(file.contents());
+            checkInstance.clearViolations();
+            checkInstance.beginTree(file.ast());
+            walk(file.ast());
+            checkInstance.finishTree(file.ast());
+            blackhole.consume(checkInstance.getViolations());
+        }
+    }
+
+    /**
+     * Visits the nodes of an AST the check is registered for.
+     *
+     * @param root the root of the AST.
+     */
+    private void walk(DetailAST root) {
+        DetailAST curNode = root;
+        while (curNode != null) {
+            if (tokens.get(curNode.getType())) {
+                checkInstance.visitToken(curNode);
+            }
+            DetailAST toVisit = curNode.getFirstChild();
+            while (curNode != null && toVisit == null) {
+                if (tokens.get(curNode.getType())) {
+                    checkInstance.leaveToken(curNode);
+                }
+                toVisit = curNode.getNextSibling();
+                curNode = curNode.getParent();
+            }
+            curNode = toVisit;
+        }
+    }
+
+    /**
+     * A parsed file of the corpus.
+     *
+     * @param contents the contents of the file.
+     * @param ast the root of the AST of the file.
+     */
+    private record ParsedFile(FileContents contents, DetailAST ast) {
+    }
+
+}
@@ -0,0 +1,99 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2026 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.puppycrawl.tools.checkstyle.JavaParser;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+
+/**
+ * Measures the time to parse all files of the corpus, without and with comment nodes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JavaParserBenchmark {
+
+    /** The directory of the Java files to parse. */
+    @Param(BenchmarkCorpus.DEFAULT_CORPUS)
+    public String corpus;
+
+    /** The files to parse. */
+    private List<FileText> files;
+
+    /**
+     * Loads the corpus.
+     *
+     * @throws IOException if the corpus can not be read.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        files = BenchmarkCorpus.loadParsableFiles(corpus);
+    }
+
+    /**
+     * Parses the files.
+     *
+     * @param blackhole the sink of the ASTs.
+     * @throws CheckstyleException if a file can not be parsed.
+     */
+    @Benchmark
+    public void parse(Blackhole blackhole) throws CheckstyleException {
+        for (FileText text : files) {
+            blackhole.consume(JavaParser.parse(new FileContents(text)));
+        }
+    }
+
+    /**
+     * Parses the files and appends the comment nodes to the ASTs.
+     *
+     * @param blackhole the sink of the ASTs.
+     * @throws CheckstyleException if a file can not be parsed.
+     */
+    @Benchmark
+    public void parseWithComments(Blackhole blackhole) throws CheckstyleException {
+        for (FileText text : files) {
+            blackhole.consume(JavaParser.appendHiddenCommentNodes(
+                    JavaParser.parse(new FileContents(text))));
+        }
+    }
+
+}
@@ -26,12 +26,25 @@ import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -68,6 +81,12 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
     /** The extension separator. */
     private static final String EXTENSION_SEPARATOR = ".";
 
+    /**
+     * The number of files each worker thread may have processed ahead of the
+     * file whose events are currently fired to listeners.
+     */
+    private static final int FILES_IN_FLIGHT_PER_THREAD = 4;
+
     /** Logger for Checker. */
     private final Log log;
 
@@ -81,6 +100,12 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
     /** Vector of fileset checks. */
     private final List<FileSetCheck> fileSetChecks = new ArrayList<>();
 
+    /**
+     * Configurations of the fileset checks created from the configuration of this Checker.
+     * They are used to create the own instances of the fileset checks for worker threads.
+     */
+    private final Map<FileSetCheck, Configuration> fileSetCheckConfigs = new HashMap<>();
+
     /** The audit event before execution file filters. */
     private final BeforeExecutionFileFilterSet beforeExecutionFileFilters =
             new BeforeExecutionFileFilterSet();
@@ -129,12 +154,33 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
     @XdocsPropertyType(PropertyType.FILE)
     private PropertyCacheFile cacheFile;
 
+    /** Control whether the cache stores content hashes of files. */
+    private boolean cacheContentHash;
+
+    /** Control whether the cache stores violations of files to report them again. */
+    private boolean cacheViolations;
+
+    /** Directory used as second tier of the cache, which might be shared by many machines. */
+    private String cacheDirectory;
+
+    /** Maximum size of the cache directory in bytes, zero for no limit. */
+    private long cacheDirectoryMaxSize;
+
     /** Controls whether exceptions should halt execution or not. */
     private boolean haltOnException = true;
 
     /** The tab width for column reporting. */
     private int tabWidth = CommonUtil.DEFAULT_TAB_WIDTH;
 
+    /** The number of threads to process files with. */
+    private int checkerThreadsNumber = 1;
+
+    /** Whether many TreeWalker modules share the parsing of a file. */
+    private boolean javaParseShared;
+
+    /** The number of threads to parse files ahead with, zero to parse files on demand. */
+    private int parserThreadsNumber;
+
     /**
      * Creates a new {@code Checker} instance.
      * The instance needs to be contextualized and configured.
@@ -153,9 +199,62 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
     public void setCacheFile(String fileName) throws IOException {
         final Configuration configuration = getConfiguration();
         cacheFile = new PropertyCacheFile(configuration, fileName);
+        cacheFile.setContentHashEnabled(cacheContentHash);
+        cacheFile.setCacheDirectory(cacheDirectory, cacheDirectoryMaxSize);
         cacheFile.load();
     }
 
+    /**
+     * Sets whether the cache stores content hashes of files, so files whose
+     * content did not change are not checked again even if their timestamps changed.
+     *
+     * @param cacheContentHash whether to store content hashes in the cache.
+     */
+    public void setCacheContentHash(boolean cacheContentHash) {
+        this.cacheContentHash = cacheContentHash;
+        if (cacheFile != null) {
+            cacheFile.setContentHashEnabled(cacheContentHash);
+        }
+    }
+
+    /**
+     * Sets the directory used as second tier of the cache. The directory might be
+     * shared by many machines, so the results of checking a file on one of them
+     * are reused by the others. It is used only together with the cache file.
+     *
+     * @param cacheDirectory the cache directory.
+     */
+    public void setCacheDirectory(String cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+        if (cacheFile != null) {
+            cacheFile.setCacheDirectory(cacheDirectory, cacheDirectoryMaxSize);
+        }
+    }
+
+    /**
+     * Sets the maximum size of the cache directory. The least recently used
+     * entries are removed when the cache directory exceeds this size.
+     *
+     * @param cacheDirectoryMaxSize the maximum size in bytes, zero for no limit.
+     */
+    public void setCacheDirectoryMaxSize(long cacheDirectoryMaxSize) {
+        this.cacheDirectoryMaxSize = cacheDirectoryMaxSize;
+        if (cacheFile != null) {
+            cacheFile.setCacheDirectory(cacheDirectory, cacheDirectoryMaxSize);
+        }
+    }
+
+    /**
+     * Sets whether the cache stores the violations of files. When enabled, files
+     * with violations are cached as well, and the audit of a cached file is reported
+     * to listeners again, so the report is the same as if the file was checked.
+     *
+     * @param cacheViolations whether to store violations in the cache.
+     */
+    public void setCacheViolations(boolean cacheViolations) {
+        this.cacheViolations = cacheViolations;
+    }
+
     /**
      * Removes before execution file filter.
      *
@@ -178,6 +277,7 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
     public void destroy() {
         listeners.clear();
         fileSetChecks.clear();
+        fileSetCheckConfigs.clear();
         beforeExecutionFileFilters.clear();
         filters.clear();
         if (cacheFile != null) {
@@ -212,6 +312,7 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
     @Override
     public int process(List<File> files) throws CheckstyleException {
         if (cacheFile != null) {
+            cacheFile.setBasedir(basedir);
             cacheFile.putExternalResources(getExternalResourceLocations());
         }
 
@@ -220,6 +321,9 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
         for (final FileSetCheck fsc : fileSetChecks) {
             fsc.beginProcessing(charset);
         }
+        javaParseShared = fileSetChecks.stream()
+                .filter(TreeWalker.class::isInstance)
+                .count() > 1;
 
         final List<File> targetFiles = files.stream()
                 .filter(file -> CommonUtil.matchesFileExtension(file, fileExtensions))
@@ -281,25 +385,110 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
      * @noinspectionreason ProhibitedExceptionThrown - There is no other way to
      *      deliver filename that was under processing.
      */
-    // -@cs[CyclomaticComplexity] no easy way to split this logic of processing the file
     private void processFiles(List<File> files) throws CheckstyleException {
+        if (checkerThreadsNumber > 1) {
+            processFilesInParallel(files);
+        }
+        else if (parserThreadsNumber > 0) {
+            processFilesWithParserThreads(files);
+        }
+        else {
+            processFilesSequentially(files, null);
+        }
+    }
+
+    /**
+     * Processes a list of files with all FileSetChecks in the current thread, while
+     * a pool of parser threads reads and parses the next files for the TreeWalker
+     * modules, see {@link JavaParsePipeline}. The checks run in the current thread only,
+     * so they do not have to be thread safe.
+     *
+     * @param files a list of files to process.
+     * @throws CheckstyleException if error condition within Checkstyle occurs.
+     * @throws Error wraps any java.lang.Error happened during execution
+     */
+    private void processFilesWithParserThreads(List<File> files) throws CheckstyleException {
+        final List<TreeWalker> treeWalkers = fileSetChecks.stream()
+                .filter(TreeWalker.class::isInstance)
+                .map(TreeWalker.class::cast)
+                .filter(TreeWalker::isAstRequired)
+                .toList();
+        try (JavaParsePipeline pipeline = new JavaParsePipeline(files,
+                file -> isInCache(file.getAbsolutePath(), file.lastModified()),
+                file -> isParsedAhead(file, treeWalkers), charset, parserThreadsNumber,
+                parserThreadsNumber * FILES_IN_FLIGHT_PER_THREAD)) {
+            processFilesSequentially(files, pipeline);
+        }
+    }
+
+    /**
+     * Checks whether a file which is not cached is parsed ahead by the parser threads,
+     * that is whether it is not rejected by the before execution file filters,
+     * and it is parsed by a TreeWalker module.
+     *
+     * @param file a file to process.
+     * @param treeWalkers the TreeWalker modules which parse files.
+     * @return {@code true} if the file is parsed ahead.
+     */
+    private boolean isParsedAhead(File file, List<TreeWalker> treeWalkers) {
+        return acceptFileStarted(file.getAbsolutePath())
+                && treeWalkers.stream().anyMatch(treeWalker -> {
+                    return CommonUtil.matchesFileExtension(file,
+                            treeWalker.getFileExtensions());
+                });
+    }
+
+    /**
+     * Processes a list of files with all FileSetChecks in the current thread.
+     *
+     * @param files a list of files to process.
+     * @param pipeline the parser threads which parse the files ahead,
+     *     or {@code null} if the files are parsed on demand.
+     * @throws CheckstyleException if error condition within Checkstyle occurs.
+     * @throws Error wraps any java.lang.Error happened during execution
+     * @noinspection ProhibitedExceptionThrown
+     * @noinspectionreason ProhibitedExceptionThrown - There is no other way to
+     *      deliver filename that was under processing.
+     */
+    // -@cs[CyclomaticComplexity] no easy way to split this logic of processing the file
+    private void processFilesSequentially(List<File> files, JavaParsePipeline pipeline)
+            throws CheckstyleException {
         for (final File file : files) {
             String fileName = null;
             final String filePath = file.getPath();
             try {
                 fileName = file.getAbsolutePath();
                 final long timestamp = file.lastModified();
-                if (cacheFile != null && cacheFile.isInCache(fileName, timestamp)
-                        || !acceptFileStarted(fileName)) {
-                    continue;
+                JavaParseCache parseCache = null;
+                final boolean inCache;
+                if (pipeline == null) {
+                    inCache = isInCache(fileName, timestamp);
                 }
-                if (cacheFile != null) {
-                    cacheFile.put(fileName, timestamp);
+                else {
+                    final JavaParsePipeline.Entry entry = pipeline.next();
+                    inCache = entry.isInCache();
+                    parseCache = entry.getParseCache();
+                }
+                final List<AuditEvent> cachedErrors = getCachedErrors(fileName, inCache);
+                if (cachedErrors != null) {
+                    if (cacheViolations && acceptFileStarted(fileName)) {
+                        fireFileStarted(fileName);
+                        fireAcceptedErrors(cachedErrors);
+                        fireFileFinished(fileName);
+                    }
+                }
+                else if (acceptFileStarted(fileName)) {
+                    if (cacheFile != null) {
+                        cacheFile.put(fileName, timestamp);
+                    }
+                    fireFileStarted(fileName);
+                    final SortedSet<Violation> fileMessages =
+                            processFile(file, fileSetChecks, parseCache);
+                    final List<AuditEvent> errors = filterErrors(fileName, fileMessages);
+                    fireAcceptedErrors(errors);
+                    cacheErrors(fileName, errors);
+                    fireFileFinished(fileName);
                 }
-                fireFileStarted(fileName);
-                final SortedSet<Violation> fileMessages = processFile(file);
-                fireErrors(fileName, fileMessages);
-                fireFileFinished(fileName);
             }
             // -@cs[IllegalCatch] There is no other way to deliver filename that was under
             // processing. See https://github.com/checkstyle/checkstyle/issues/2285
@@ -324,21 +513,318 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
     }
 
     /**
-     * Processes a file with all FileSetChecks.
+     * Processes a list of files with all FileSetChecks on a pool of worker threads.
+     * Files are processed concurrently, but their audit events are fired to listeners
+     * in the order of the list, one file at a time, so the listeners observe exactly
+     * the same sequence of events as in single thread mode.
+     * Each worker thread uses its own instances of the fileset checks, see
+     * {@link #createWorkerFileSetChecks()}.
+     *
+     * @param files a list of files to process.
+     * @throws CheckstyleException if error condition within Checkstyle occurs.
+     * @throws Error wraps any java.lang.Error happened during execution
+     */
+    private void processFilesInParallel(List<File> files) throws CheckstyleException {
+        final int maxFilesInFlight = checkerThreadsNumber * FILES_IN_FLIGHT_PER_THREAD;
+        final Deque<ProcessedFile> filesInFlight = new ArrayDeque<>();
+        final List<List<FileSetCheck>> workerFileSetChecks = createWorkerFileSetChecks();
+        final BlockingQueue<List<FileSetCheck>> idleFileSetChecks =
+                new ArrayBlockingQueue<>(checkerThreadsNumber, false, workerFileSetChecks);
+        final ExecutorService executor = Executors.newFixedThreadPool(checkerThreadsNumber);
+        try {
+            for (final File file : files) {
+                final ProcessedFile processedFile =
+                        submitFile(executor, idleFileSetChecks, file);
+                if (processedFile != null) {
+                    filesInFlight.add(processedFile);
+                }
+                if (filesInFlight.size() >= maxFilesInFlight) {
+                    finishFile(filesInFlight.remove());
+                }
+            }
+            while (!filesInFlight.isEmpty()) {
+                finishFile(filesInFlight.remove());
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        // It may also log!!!
+        workerFileSetChecks.stream()
+                .flatMap(List::stream)
+                .filter(fsc -> !fileSetChecks.contains(fsc))
+                .forEach(fsc -> {
+                    fsc.finishProcessing();
+                    fsc.destroy();
+                });
+    }
+
+    /**
+     * Creates the fileset checks for each worker thread. The first worker thread uses
+     * the fileset checks of this Checker. Other worker threads get their own instances,
+     * created and configured from the same configuration, unless a fileset check is
+     * {@link StatelessCheck stateless} or {@link GlobalStatefulCheck globally stateful}:
+     * there must be exactly one instance of such a check, so it is shared by all
+     * worker threads. A fileset check which was not created from the configuration
+     * of this Checker is shared as well.
+     *
+     * @return the fileset checks for each worker thread.
+     * @throws CheckstyleException if a fileset check can not be created.
+     */
+    private List<List<FileSetCheck>> createWorkerFileSetChecks() throws CheckstyleException {
+        final List<List<FileSetCheck>> result = new ArrayList<>();
+        result.add(fileSetChecks);
+        for (int thread = 1; thread < checkerThreadsNumber; thread++) {
+            final List<FileSetCheck> workerChecks = new ArrayList<>();
+            for (final FileSetCheck fsc : fileSetChecks) {
+                workerChecks.add(createWorkerFileSetCheck(fsc));
+            }
+            result.add(workerChecks);
+        }
+        return result;
+    }
+
+    /**
+     * Creates an instance of the fileset check for a worker thread.
+     *
+     * @param fileSetCheck the fileset check of this Checker.
+     * @return the new instance or the given one, if it should be shared by worker threads.
+     * @throws CheckstyleException if the fileset check can not be created.
+     */
+    private FileSetCheck createWorkerFileSetCheck(FileSetCheck fileSetCheck)
+            throws CheckstyleException {
+        final Configuration childConf = fileSetCheckConfigs.get(fileSetCheck);
+        final Class<?> moduleClass = fileSetCheck.getClass();
+        FileSetCheck result = fileSetCheck;
+        if (childConf != null
+                && !moduleClass.isAnnotationPresent(StatelessCheck.class)
+                && !moduleClass.isAnnotationPresent(GlobalStatefulCheck.class)) {
+            result = (FileSetCheck) createChildModule(childConf, fileSetCheck);
+            result.init();
+            result.setMessageDispatcher(this);
+            result.beginProcessing(charset);
+        }
+        return result;
+    }
+
+    /**
+     * Submits a file to the worker threads, unless it is cached or rejected
+     * by the before execution file filters. The audit of a cached file is
+     * reported again if the cache stores violations.
+     *
+     * @param executor the worker threads.
+     * @param idleFileSetChecks the fileset checks which are not used by any worker thread.
+     * @param file a file to process.
+     * @return the file under processing or {@code null} if the file is skipped.
+     * @throws CheckstyleException if error condition within Checkstyle occurs.
+     */
+    private ProcessedFile submitFile(ExecutorService executor,
+            BlockingQueue<List<FileSetCheck>> idleFileSetChecks, File file)
+            throws CheckstyleException {
+        final String filePath = file.getPath();
+        try {
+            final String fileName = file.getAbsolutePath();
+            final long timestamp = file.lastModified();
+            final List<AuditEvent> cachedErrors =
+                    getCachedErrors(fileName, isInCache(fileName, timestamp));
+            ProcessedFile processedFile = null;
+            if (cachedErrors != null) {
+                if (cacheViolations && acceptFileStarted(fileName)) {
+                    processedFile = new ProcessedFile(filePath, fileName,
+                            CompletableFuture.completedFuture(cachedErrors));
+                }
+            }
+            else if (acceptFileStarted(fileName)) {
+                if (cacheFile != null) {
+                    cacheFile.put(fileName, timestamp);
+                }
+                final Future<List<AuditEvent>> errors = executor.submit(() -> {
+                    final List<FileSetCheck> workerChecks = idleFileSetChecks.take();
+                    try {
+                        return filterErrors(fileName,
+                                processFile(file, workerChecks, null));
+                    }
+                    finally {
+                        idleFileSetChecks.add(workerChecks);
+                    }
+                });
+                processedFile = new ProcessedFile(filePath, fileName, errors);
+            }
+            return processedFile;
+        }
+        // -@cs[IllegalCatch] There is no other way to deliver filename that was under
+        // processing. See https://github.com/checkstyle/checkstyle/issues/2285
+        catch (Exception exc) {
+            throw new CheckstyleException(
+                    getLocalizedMessage("Checker.processFilesException", filePath), exc);
+        }
+    }
+
+    /**
+     * Waits for a file to be processed by the worker threads and
+     * notifies all listeners about its audit.
+     *
+     * @param processedFile the file under processing.
+     * @throws CheckstyleException if error condition within Checkstyle occurs.
+     * @throws Error wraps any java.lang.Error happened during execution
+     * @noinspection ProhibitedExceptionThrown
+     * @noinspectionreason ProhibitedExceptionThrown - There is no other way to
+     *      deliver filename that was under processing.
+     */
+    private void finishFile(ProcessedFile processedFile) throws CheckstyleException {
+        final String fileName = processedFile.fileName();
+        final String filePath = processedFile.filePath();
+        try {
+            final List<AuditEvent> errors = processedFile.errors().get();
+            fireFileStarted(fileName);
+            fireAcceptedErrors(errors);
+            cacheErrors(fileName, errors);
+            fireFileFinished(fileName);
+        }
+        catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+            removeFromCache(fileName);
+            throw new CheckstyleException(
+                    getLocalizedMessage("Checker.processFilesException", filePath), exc);
+        }
+        catch (ExecutionException exc) {
+            removeFromCache(fileName);
+            if (exc.getCause() instanceof Error error) {
+                throw new Error(getLocalizedMessage("Checker.error", filePath), error);
+            }
+            throw new CheckstyleException(
+                    getLocalizedMessage("Checker.processFilesException", filePath),
+                    exc.getCause());
+        }
+        // -@cs[IllegalCatch] There is no other way to deliver filename that was under
+        // processing. See https://github.com/checkstyle/checkstyle/issues/2285
+        catch (Exception exc) {
+            removeFromCache(fileName);
+            throw new CheckstyleException(
+                    getLocalizedMessage("Checker.processFilesException", filePath), exc);
+        }
+        catch (Error error) {
+            removeFromCache(fileName);
+            throw new Error(getLocalizedMessage("Checker.error", filePath), error);
+        }
+    }
+
+    /**
+     * Checks whether a file is in the cache, if the cache is used.
+     *
+     * @param fileName the file to look up.
+     * @param timestamp the timestamp of the file.
+     * @return {@code true} if the file has already been checked.
+     */
+    private boolean isInCache(String fileName, long timestamp) {
+        return cacheFile != null && cacheFile.isInCache(fileName, timestamp);
+    }
+
+    /**
+     * Retrieves the audit events of a file from the cache. A file with violations
+     * is treated as not cached if the cache does not store violations.
+     *
+     * @param fileName the file to look up.
+     * @param inCache whether the file is in the cache.
+     * @return the cached audit events of the file, which are empty if the cache does
+     *         not store violations, or {@code null} if the file has to be processed.
+     */
+    private List<AuditEvent> getCachedErrors(String fileName, boolean inCache) {
+        List<AuditEvent> result = null;
+        if (inCache) {
+            final ClassLoader classLoader = Objects.requireNonNullElse(moduleClassLoader,
+                    Checker.class.getClassLoader());
+            final List<Violation> violations = cacheFile.getViolations(fileName, classLoader);
+            if (violations != null && (cacheViolations || violations.isEmpty())) {
+                final String stripped = relativizePathWithCatch(fileName);
+                result = violations.stream()
+                        .map(violation -> new AuditEvent(this, stripped, violation))
+                        .toList();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Updates the cache with the audit events of a processed file. A file with
+     * violations stays in the cache only if the cache stores violations,
+     * and the violations do not report a failure to process the file.
+     *
+     * @param fileName the processed file.
+     * @param events the audit events accepted by all filters.
+     */
+    private void cacheErrors(String fileName, List<AuditEvent> events) {
+        if (cacheFile != null && !events.isEmpty()) {
+            if (cacheViolations && events.stream().noneMatch(this::isProcessingFailure)) {
+                cacheFile.putViolations(fileName, events.stream()
+                        .map(AuditEvent::getViolation)
+                        .toList());
+            }
+            else {
+                cacheFile.remove(fileName);
+            }
+        }
+    }
+
+    /**
+     * Checks whether an audit event reports a failure to process a file,
+     * which might not happen when the file is processed again.
+     *
+     * @param event the audit event.
+     * @return {@code true} if the event was reported by this Checker.
+     */
+    private boolean isProcessingFailure(AuditEvent event) {
+        return getClass().getName().equals(event.getSourceName());
+    }
+
+    /**
+     * Removes a file from the cache, if the cache is used.
+     *
+     * @param fileName the file to remove.
+     */
+    private void removeFromCache(String fileName) {
+        if (cacheFile != null) {
+            cacheFile.remove(fileName);
+        }
+    }
+
+    /**
+     * Processes a file with all FileSetChecks. If there are many TreeWalker modules,
+     * they share the parsing of the file, see {@link JavaParseCache}. A file parsed
+     * ahead by the parser threads is shared by all TreeWalker modules.
      *
      * @param file a file to process.
+     * @param checks the FileSetChecks to process the file with.
+     * @param parseCache the file parsed ahead, or {@code null} if it is not parsed ahead.
      * @return a sorted set of violations to be logged.
      * @throws CheckstyleException if error condition within Checkstyle occurs.
      * @noinspection ProhibitedExceptionThrown
      * @noinspectionreason ProhibitedExceptionThrown - there is no other way to obey
      *      haltOnException field
      */
-    private SortedSet<Violation> processFile(File file) throws CheckstyleException {
+    private SortedSet<Violation> processFile(File file, List<FileSetCheck> checks,
+            JavaParseCache parseCache) throws CheckstyleException {
         final SortedSet<Violation> fileMessages = new TreeSet<>();
         try {
-            final FileText theText = new FileText(file.getAbsoluteFile(), charset);
-            for (final FileSetCheck fsc : fileSetChecks) {
-                fileMessages.addAll(fsc.process(file, theText));
+            final FileText theText;
+            if (parseCache != null) {
+                theText = parseCache.getContents().getText();
+                JavaParseCache.open(parseCache);
+            }
+            else {
+                theText = new FileText(file.getAbsoluteFile(), charset);
+                if (javaParseShared) {
+                    JavaParseCache.open(theText);
+                }
+            }
+            try {
+                for (final FileSetCheck fsc : checks) {
+                    fileMessages.addAll(processWithFileSetCheck(fsc, file, theText));
+                }
+            }
+            finally {
+                JavaParseCache.close();
             }
         }
         catch (final IOException ioe) {
@@ -368,6 +854,32 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
         return fileMessages;
     }
 
+    /**
+     * Processes a file with a FileSetCheck. In multi thread mode a FileSetCheck
+     * which is not {@link StatelessCheck stateless} processes only one file at a time,
+     * as it might be shared by worker threads.
+     *
+     * @param fileSetCheck the FileSetCheck to process the file with.
+     * @param file a file to process.
+     * @param fileText the contents of the file.
+     * @return a sorted set of violations to be logged.
+     * @throws CheckstyleException if error condition within Checkstyle occurs.
+     */
+    private SortedSet<Violation> processWithFileSetCheck(FileSetCheck fileSetCheck, File file,
+            FileText fileText) throws CheckstyleException {
+        final SortedSet<Violation> result;
+        if (checkerThreadsNumber == 1
+                || fileSetCheck.getClass().isAnnotationPresent(StatelessCheck.class)) {
+            result = fileSetCheck.process(file, fileText);
+        }
+        else {
+            synchronized (fileSetCheck) {
+                result = fileSetCheck.process(file, fileText);
+            }
+        }
+        return result;
+    }
+
     /**
      * Check if all before execution file filters accept starting the file.
      *
@@ -403,19 +915,47 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
      */
     @Override
     public void fireErrors(String fileName, SortedSet<Violation> errors) {
+        final List<AuditEvent> events = filterErrors(fileName, errors);
+        fireAcceptedErrors(events);
+        if (!events.isEmpty()) {
+            removeFromCache(fileName);
+        }
+    }
+
+    /**
+     * Creates audit events for the errors in a file and passes them through the filters.
+     * In multi thread mode this is done in the thread which processed the file,
+     * as some filters rely on the thread local state of the checks.
+     * Filters are not required to be thread safe, so only one file is filtered at a time.
+     *
+     * @param fileName the audited file
+     * @param errors the audit errors from the file
+     * @return the audit events accepted by all filters
+     */
+    private List<AuditEvent> filterErrors(String fileName, SortedSet<Violation> errors) {
         final String stripped = relativizePathWithCatch(fileName);
-        boolean hasNonFilteredViolations = false;
-        for (final Violation element : errors) {
-            final AuditEvent event = new AuditEvent(this, stripped, element);
-            if (filters.accept(event)) {
-                hasNonFilteredViolations = true;
-                for (final AuditListener listener : listeners) {
-                    listener.addError(event);
+        final List<AuditEvent> result = new ArrayList<>();
+        synchronized (filters) {
+            for (final Violation element : errors) {
+                final AuditEvent event = new AuditEvent(this, stripped, element);
+                if (filters.accept(event)) {
+                    result.add(event);
                 }
             }
         }
-        if (hasNonFilteredViolations && cacheFile != null) {
-            cacheFile.remove(fileName);
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Notify all listeners about the filtered errors in a file.
+     *
+     * @param events the audit events accepted by all filters
+     */
+    private void fireAcceptedErrors(List<AuditEvent> events) {
+        for (final AuditEvent event : events) {
+            for (final AuditListener listener : listeners) {
+                listener.addError(event);
+            }
         }
     }
 
@@ -457,6 +997,11 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
         context.add("basedir", basedir);
         context.add("tabWidth", String.valueOf(tabWidth));
         childContext = context;
+
+        if (getConfiguration() instanceof DefaultConfiguration configuration) {
+            checkerThreadsNumber =
+                    configuration.getThreadModeSettings().checkerThreadsNumber();
+        }
     }
 
     /**
@@ -466,6 +1011,33 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
     protected void setupChild(Configuration childConf)
             throws CheckstyleException {
         final String name = childConf.getName();
+        final Object child = createChildModule(childConf, null);
+        switch (child) {
+            case FileSetCheck fsc -> {
+                fsc.init();
+                addFileSetCheck(fsc);
+                fileSetCheckConfigs.put(fsc, childConf);
+            }
+            case BeforeExecutionFileFilter filter -> addBeforeExecutionFileFilter(filter);
+            case Filter filter -> addFilter(filter);
+            case AuditListener listener -> addListener(listener);
+            case null, default -> throw new CheckstyleException(
+                    getLocalizedMessage("Checker.setupChildNotAllowed", name));
+        }
+    }
+
+    /**
+     * Creates and configures a child module.
+     *
+     * @param childConf the configuration of the child module.
+     * @param original the module of this Checker the new one is a copy of,
+     *     or {@code null} if the module is not a copy.
+     * @return the child module.
+     * @throws CheckstyleException if the module can not be created.
+     */
+    private Object createChildModule(Configuration childConf, Object original)
+            throws CheckstyleException {
+        final String name = childConf.getName();
         final Object child;
 
         try {
@@ -473,6 +1045,10 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
 
             if (child instanceof AbstractAutomaticBean bean) {
                 bean.contextualize(childContext);
+                if (child instanceof TreeWalker treeWalker
+                        && original instanceof TreeWalker originalTreeWalker) {
+                    treeWalker.shareChecks(originalTreeWalker);
+                }
                 bean.configure(childConf);
             }
         }
@@ -480,17 +1056,7 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
             throw new CheckstyleException(
                     getLocalizedMessage("Checker.setupChildModule", name, exc.getMessage()), exc);
         }
-        switch (child) {
-            case FileSetCheck fsc -> {
-                fsc.init();
-                addFileSetCheck(fsc);
-            }
-            case BeforeExecutionFileFilter filter -> addBeforeExecutionFileFilter(filter);
-            case Filter filter -> addFilter(filter);
-            case AuditListener listener -> addListener(listener);
-            case null, default -> throw new CheckstyleException(
-                    getLocalizedMessage("Checker.setupChildNotAllowed", name));
-        }
+        return child;
     }
 
     /**
@@ -607,6 +1173,18 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
         this.charset = charset;
     }
 
+    /**
+     * Sets the number of threads which read and parse the next files for the TreeWalker
+     * modules, while the checks process the current file in a single thread.
+     * The files are parsed on demand if the number is zero, or if the files are
+     * processed by many threads.
+     *
+     * @param parserThreadsNumber the number of parser threads.
+     */
+    public void setParserThreadsNumber(int parserThreadsNumber) {
+        this.parserThreadsNumber = parserThreadsNumber;
+    }
+
     /**
      * Sets the field haltOnException.
      *
@@ -668,4 +1246,15 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
         }
     }
 
+    /**
+     * A file which is submitted to the worker threads.
+     *
+     * @param filePath the path of the file as it was given to the Checker
+     * @param fileName the absolute path of the file
+     * @param errors the audit events of the file accepted by all filters
+     */
+    private record ProcessedFile(String filePath, String fileName,
+                                 Future<List<AuditEvent>> errors) {
+    }
+
 }
@@ -19,7 +19,7 @@
 
 package com.puppycrawl.tools.checkstyle;
 
-import java.util.BitSet;
+import java.util.Arrays;
 import java.util.List;
 
 import javax.annotation.Nullable;
@@ -43,6 +43,19 @@ public final class DetailAstImpl implements DetailAST {
     /** Constant to indicate if not calculated the child count. */
     private static final int NOT_INITIALIZED = Integer.MIN_VALUE;
 
+    /** The number of bits of a word in the set of branch token types. */
+    private static final int WORD_SIZE = Long.SIZE;
+
+    /** The number of words which hold all token types of {@link TokenUtil}. */
+    private static final int TOKEN_TYPE_WORDS =
+            Arrays.stream(TokenUtil.getAllTokenIds()).max().orElse(0) / WORD_SIZE + 1;
+
+    /**
+     * The token types of the branches of leaves by token type. The masks are shared
+     * by all leaves of a type, as most nodes of an AST are leaves.
+     */
+    private static final long[][] LEAF_TOKEN_TYPES = createLeafTokenTypes();
+
     /** The line number. **/
     private int lineNo = NOT_INITIALIZED;
     /** The column number. **/
@@ -80,11 +93,11 @@ public final class DetailAstImpl implements DetailAST {
     private List<Token> hiddenAfter;
 
     /**
-     * All token types in this branch.
-     * Token 'x' (where x is an int) is in this branch
-     * if branchTokenTypes.get(x) is true.
+     * All token types in this branch, as a bit mask.
+     * Token 'x' (where x is an int) is in this branch if bit {@code x % 64}
+     * of word {@code x / 64} is set.
      */
-    private BitSet branchTokenTypes;
+    private long[] branchTokenTypes;
 
     /**
      * Creates a new {@code DetailAstImpl} instance.
@@ -116,6 +129,73 @@ public final class DetailAstImpl implements DetailAST {
         text = tokenText;
     }
 
+    /**
+     * Creates a copy of this AST and its children, but not of its next siblings.
+     * The copy shares the tokens on COMMENTS channel with this AST, so comment
+     * nodes can be appended to the copy without changing this AST.
+     * The AST is walked with the parent links of the nodes instead of recursion,
+     * as the AST of a long expression is very deep.
+     *
+     * @return the copy of this AST
+     */
+    /* package */ DetailAstImpl copyTree() {
+        final DetailAstImpl result = copyNode();
+        DetailAstImpl node = this;
+        DetailAstImpl nodeCopy = result;
+        while (node != null) {
+            if (node.firstChild == null) {
+                while (node != this && node.nextSibling == null) {
+                    node = node.parent;
+                    nodeCopy = nodeCopy.parent;
+                }
+                if (node == this) {
+                    node = null;
+                }
+                else {
+                    node = node.nextSibling;
+                    final DetailAstImpl siblingCopy = node.copyNode();
+                    siblingCopy.parent = nodeCopy.parent;
+                    siblingCopy.previousSibling = nodeCopy;
+                    nodeCopy.nextSibling = siblingCopy;
+                    nodeCopy = siblingCopy;
+                }
+            }
+            else {
+                node = node.firstChild;
+                final DetailAstImpl childCopy = node.copyNode();
+                childCopy.parent = nodeCopy;
+                nodeCopy.firstChild = childCopy;
+                nodeCopy = childCopy;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Creates a copy of this node without its links to other nodes.
+     *
+     * @return the copy of this node
+     */
+    private DetailAstImpl copyNode() {
+        final DetailAstImpl copy = new DetailAstImpl();
+        copy.lineNo = lineNo;
+        copy.columnNo = columnNo;
+        copy.childCount = NOT_INITIALIZED;
+        copy.text = text;
+        copy.type = type;
+        copy.hiddenBefore = hiddenBefore;
+        copy.hiddenAfter = hiddenAfter;
+        if (branchTokenTypes != null) {
+            if (isLeafTokenTypes(branchTokenTypes)) {
+                copy.branchTokenTypes = branchTokenTypes;
+            }
+            else {
+                copy.branchTokenTypes = branchTokenTypes.clone();
+            }
+        }
+        return copy;
+    }
+
     /**
      * Add previous sibling.
      *
@@ -123,21 +203,22 @@ public final class DetailAstImpl implements DetailAST {
      *        DetailAST object.
      */
     public void addPreviousSibling(DetailAST ast) {
-        clearBranchTokenTypes();
         clearChildCountCache(parent);
         if (ast != null) {
-            // parent is set in setNextSibling or parent.setFirstChild
-            final DetailAstImpl previousSiblingNode = previousSibling;
             final DetailAstImpl astImpl = (DetailAstImpl) ast;
+            astImpl.clearBranchTokenTypes();
 
-            if (previousSiblingNode != null) {
-                previousSiblingNode.setNextSibling(astImpl);
+            if (previousSibling != null) {
+                previousSibling.nextSibling = astImpl;
+                astImpl.previousSibling = previousSibling;
             }
             else if (parent != null) {
-                parent.setFirstChild(astImpl);
+                parent.firstChild = astImpl;
             }
-
-            astImpl.setNextSibling(this);
+            astImpl.parent = parent;
+            astImpl.nextSibling = this;
+            previousSibling = astImpl;
+            astImpl.addBranchTokenTypesToParents();
         }
     }
 
@@ -147,15 +228,19 @@ public final class DetailAstImpl implements DetailAST {
      * @param ast DetailAST object.
      */
     public void addNextSibling(DetailAST ast) {
-        clearBranchTokenTypes();
         clearChildCountCache(parent);
         if (ast != null) {
-            // parent is set in setNextSibling
-            final DetailAstImpl sibling = nextSibling;
             final DetailAstImpl astImpl = (DetailAstImpl) ast;
-            astImpl.setNextSibling(sibling);
+            astImpl.clearBranchTokenTypes();
 
-            setNextSibling(astImpl);
+            if (nextSibling != null) {
+                nextSibling.previousSibling = astImpl;
+            }
+            astImpl.parent = parent;
+            astImpl.nextSibling = nextSibling;
+            astImpl.previousSibling = this;
+            nextSibling = astImpl;
+            astImpl.addBranchTokenTypesToParents();
         }
     }
 
@@ -369,31 +454,164 @@ public final class DetailAstImpl implements DetailAST {
     }
 
     /**
-     * Returns token type with branch.
+     * Returns token type with branch. The branches whose token types are not computed
+     * yet are processed from the leaves up, so the types of a branch are built from
+     * the types of its children without walking the branch again. The walk is
+     * iterative, as the ASTs of long expressions are too deep for recursion.
      *
-     * @return the token types that occur in the branch as a sorted set.
+     * @return the token types that occur in the branch as a bit mask.
      */
-    private BitSet getBranchTokenTypes() {
+    private long[] getBranchTokenTypes() {
         // lazy init
-        if (branchTokenTypes == null) {
-            branchTokenTypes = new BitSet();
-            branchTokenTypes.set(type);
-
-            // add union of all children
-            DetailAstImpl child = firstChild;
-            while (child != null) {
-                final BitSet childTypes = child.getBranchTokenTypes();
-                branchTokenTypes.or(childTypes);
-
+        DetailAstImpl node = this;
+        DetailAstImpl child = firstChild;
+        while (branchTokenTypes == null) {
+            while (child != null && child.branchTokenTypes != null) {
                 child = child.nextSibling;
             }
+            if (child == null) {
+                node.branchTokenTypes = node.createBranchTokenTypes();
+                child = node.nextSibling;
+                node = node.parent;
+            }
+            else {
+                node = child;
+                child = node.firstChild;
+            }
         }
         return branchTokenTypes;
     }
 
+    /**
+     * Creates the token types of this branch from the token types of its children,
+     * which must be already computed.
+     *
+     * @return the token types that occur in the branch as a bit mask.
+     */
+    private long[] createBranchTokenTypes() {
+        long[] types;
+        if (firstChild == null && type < LEAF_TOKEN_TYPES.length) {
+            types = LEAF_TOKEN_TYPES[type];
+        }
+        else {
+            types = createTokenTypes(type);
+            for (DetailAstImpl child = firstChild; child != null; child = child.nextSibling) {
+                types = union(types, child.branchTokenTypes);
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Checks whether a mask holds one token type only, so it might be shared
+     * by leaves and must not be changed.
+     *
+     * @param types the mask of token types.
+     * @return {@code true} if the mask might be shared.
+     */
+    private static boolean isLeafTokenTypes(long[] types) {
+        int count = 0;
+        for (long word : types) {
+            count += Long.bitCount(word);
+        }
+        return count == 1;
+    }
+
+    /**
+     * Creates the masks of the token types of leaves for all token types of
+     * {@link TokenUtil}.
+     *
+     * @return the masks by token type.
+     */
+    private static long[][] createLeafTokenTypes() {
+        final long[][] result = new long[TOKEN_TYPE_WORDS * WORD_SIZE][];
+        for (int tokenType = 0; tokenType < result.length; tokenType++) {
+            result[tokenType] = createTokenTypes(tokenType);
+        }
+        return result;
+    }
+
+    /**
+     * Creates a mask which holds one token type.
+     *
+     * @param tokenType the token type.
+     * @return the mask with the token type.
+     */
+    private static long[] createTokenTypes(int tokenType) {
+        final long[] types = new long[Math.max(TOKEN_TYPE_WORDS, tokenType / WORD_SIZE + 1)];
+        types[tokenType / WORD_SIZE] = 1L << tokenType;
+        return types;
+    }
+
+    /**
+     * Computes the token types of the branches of this AST and of its next siblings.
+     */
+    /* package */ void computeBranchTokenTypes() {
+        for (DetailAstImpl node = this; node != null; node = node.nextSibling) {
+            node.getBranchTokenTypes();
+        }
+    }
+
+    /**
+     * Adds the token types of this branch to the token types of its parents
+     * which are already computed.
+     */
+    private void addBranchTokenTypesToParents() {
+        DetailAstImpl ancestor = parent;
+        while (ancestor != null) {
+            if (ancestor.branchTokenTypes != null) {
+                long[] types = ancestor.branchTokenTypes;
+                if (isLeafTokenTypes(types)) {
+                    types = types.clone();
+                }
+                ancestor.branchTokenTypes = union(types, getBranchTokenTypes());
+            }
+            ancestor = ancestor.parent;
+        }
+    }
+
+    /**
+     * Adds the token types of the second mask to the first mask.
+     *
+     * @param types the mask to add the token types to.
+     * @param otherTypes the token types to add.
+     * @return the first mask, or its enlarged copy if it is shorter than the second one.
+     */
+    private static long[] union(long[] types, long[] otherTypes) {
+        long[] result = types;
+        if (otherTypes.length > result.length) {
+            result = Arrays.copyOf(result, otherTypes.length);
+        }
+        for (int word = 0; word < otherTypes.length; word++) {
+            result[word] |= otherTypes[word];
+        }
+        return result;
+    }
+
     @Override
     public boolean branchContains(int tokenType) {
-        return getBranchTokenTypes().get(tokenType);
+        final long[] types = getBranchTokenTypes();
+        final int word = tokenType / WORD_SIZE;
+        return word < types.length && (types[word] & 1L << tokenType) != 0;
+    }
+
+    /**
+     * Checks whether any of the given token types occurs in this branch.
+     *
+     * @param tokenTypes the token types to look for, as a bit mask.
+     * @return {@code true} if the branch contains a token of one of the types.
+     */
+    /* package */ boolean branchContainsAny(long[] tokenTypes) {
+        final long[] types = getBranchTokenTypes();
+        final int length = Math.min(types.length, tokenTypes.length);
+        boolean result = false;
+        for (int word = 0; word < length; word++) {
+            if ((types[word] & tokenTypes[word]) != 0) {
+                result = true;
+                break;
+            }
+        }
+        return result;
     }
 
     @Override
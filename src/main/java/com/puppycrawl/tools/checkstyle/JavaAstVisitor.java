@@ -31,6 +31,7 @@ import org.antlr.v4.runtime.BufferedTokenStream;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.TerminalNode;
 
@@ -117,6 +118,13 @@ public final class JavaAstVisitor extends JavaLanguageParserBaseVisitor<DetailAs
         TokenTypes.LAMBDA,
     };
 
+    /**
+     * The texts of tokens which are defined by a literal in the lexer, like keywords,
+     * operators and separators, indexed by token type. Nodes of such tokens share
+     * the text instead of cutting it from the file for every node.
+     */
+    private static final String[] LITERAL_TOKEN_TEXTS = createLiteralTokenTexts();
+
     /** Token stream to check for hidden tokens. */
     private final BufferedTokenStream tokens;
 
@@ -151,6 +159,8 @@ public final class JavaAstVisitor extends JavaLanguageParserBaseVisitor<DetailAs
                 root = createImaginary(TokenTypes.COMPILATION_UNIT);
             }
             processChildren(root, children);
+            // the tree is complete, later changes keep the branch token types up to date
+            root.computeBranchTokenTypes();
         }
         return root;
     }
@@ -2191,7 +2201,9 @@ public final class JavaAstVisitor extends JavaLanguageParserBaseVisitor<DetailAs
                 tokens.getHiddenTokensToRight(tokenIndex, JavaLanguageLexer.COMMENTS);
 
         final DetailAstImpl detailAst = new DetailAstImpl();
-        detailAst.initialize(token);
+        detailAst.initialize(token.getType(), getTokenText(token));
+        detailAst.setLineNo(token.getLine());
+        detailAst.setColumnNo(token.getCharPositionInLine());
         if (tokensToLeft != null) {
             detailAst.setHiddenBefore(tokensToLeft);
         }
@@ -2201,6 +2213,42 @@ public final class JavaAstVisitor extends JavaLanguageParserBaseVisitor<DetailAs
         return detailAst;
     }
 
+    /**
+     * Gets the text of a token, using the shared text of a token defined by a literal.
+     *
+     * @param token the token to get the text of
+     * @return the text of the token
+     */
+    private static String getTokenText(Token token) {
+        final int tokenType = token.getType();
+        String text = null;
+        if (tokenType >= 0 && tokenType < LITERAL_TOKEN_TEXTS.length) {
+            text = LITERAL_TOKEN_TEXTS[tokenType];
+        }
+        if (text == null) {
+            text = token.getText();
+        }
+        return text;
+    }
+
+    /**
+     * Creates the texts of tokens which are defined by a literal in the lexer.
+     *
+     * @return the texts indexed by token type, {@code null} for other tokens
+     */
+    private static String[] createLiteralTokenTexts() {
+        final Vocabulary vocabulary = JavaLanguageLexer.VOCABULARY;
+        final String[] texts = new String[vocabulary.getMaxTokenType() + 1];
+        for (int tokenType = 0; tokenType < texts.length; tokenType++) {
+            final String literalName = vocabulary.getLiteralName(tokenType);
+            // literal names are quoted, escaped literals are left to the token
+            if (literalName != null && literalName.indexOf('\\') == -1) {
+                texts[tokenType] = literalName.substring(1, literalName.length() - 1);
+            }
+        }
+        return texts;
+    }
+
     /**
      * Create a DetailAstImpl from a given TerminalNode. This method should be
      * used for terminal nodes, i.e. {@code @}.
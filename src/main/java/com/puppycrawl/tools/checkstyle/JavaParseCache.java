@@ -0,0 +1,235 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2026 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+
+/**
+ * Holds the result of parsing a Java file, so the file is parsed only once
+ * even if it is processed by many {@link TreeWalker} modules.
+ *
+ * <p>
+ * {@link Checker} opens a shared instance for the file which is processed by the
+ * current thread and closes it when all fileset checks processed the file.
+ * A {@code TreeWalker} which processes another file gets its own instance.
+ * The AST with comment nodes of a shared instance is built on a copy of the AST,
+ * as appending comment nodes changes the AST.
+ * </p>
+ *
+ * <p>
+ * A shared instance might be parsed ahead by a parser thread of {@code Checker},
+ * see {@link #parseAhead(FileText)}, and opened later by the thread which
+ * processes the file.
+ * </p>
+ */
+final class JavaParseCache {
+
+    /** The shared instance for the file which is processed by the current thread. */
+    private static final ThreadLocal<JavaParseCache> CURRENT = new ThreadLocal<>();
+
+    /** The contents of the file, which collects the comments found by the parser. */
+    private final FileContents contents;
+
+    /** Whether this instance is shared by many {@code TreeWalker} modules. */
+    private final boolean shared;
+
+    /** Whether the file was parsed. */
+    private boolean parsed;
+
+    /** The root of the AST. */
+    private DetailAST ast;
+
+    /** The exception thrown by the parser. */
+    private Exception parseException;
+
+    /** Whether the comment nodes were appended. */
+    private boolean commentsAppended;
+
+    /** The root of the AST with comment nodes. */
+    private DetailAST astWithComments;
+
+    /** The comment nodes of the AST in the order they are visited. */
+    private List<DetailAST> commentNodes;
+
+    /**
+     * Creates a new {@code JavaParseCache} instance.
+     *
+     * @param contents the contents of the file
+     * @param shared whether the instance is shared by many {@code TreeWalker} modules
+     */
+    private JavaParseCache(FileContents contents, boolean shared) {
+        this.contents = contents;
+        this.shared = shared;
+    }
+
+    /**
+     * Opens the shared instance for a file processed by the current thread.
+     *
+     * @param text the text of the file
+     */
+    /* package */ static void open(FileText text) {
+        CURRENT.set(new JavaParseCache(new FileContents(text), true));
+    }
+
+    /**
+     * Opens the shared instance for a file processed by the current thread,
+     * which was parsed ahead by another thread.
+     *
+     * @param parseCache the instance for the file
+     */
+    /* package */ static void open(JavaParseCache parseCache) {
+        CURRENT.set(parseCache);
+    }
+
+    /**
+     * Creates a shared instance for a file and parses the file. The instance
+     * keeps the exception thrown by the parser, to throw it when the AST is requested.
+     *
+     * @param text the text of the file
+     * @return the instance for the file
+     */
+    /* package */ static JavaParseCache parseAhead(FileText text) {
+        final JavaParseCache result = new JavaParseCache(new FileContents(text), true);
+        result.parse();
+        return result;
+    }
+
+    /**
+     * Releases the shared instance of the current thread.
+     */
+    /* package */ static void close() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Gets the shared instance if it is opened for the given file,
+     * or creates a new instance otherwise. The shared instance is matched by the
+     * file and its full text, as modules may get a copy of the text of the file.
+     *
+     * @param text the text of the file
+     * @param contents the contents of the file to use for a new instance
+     * @return the instance for the file
+     */
+    /* package */ static JavaParseCache get(FileText text, FileContents contents) {
+        JavaParseCache result = CURRENT.get();
+        if (result == null || !result.isOpenedFor(text)) {
+            result = new JavaParseCache(contents, false);
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether this instance holds the given text of a file.
+     *
+     * @param text the text of the file
+     * @return whether the file and the full text of this instance are the same
+     */
+    private boolean isOpenedFor(FileText text) {
+        final FileText openedText = contents.getText();
+        return Objects.equals(openedText.getFile(), text.getFile())
+                && openedText.getFullText().equals(text.getFullText());
+    }
+
+    /**
+     * Gets the contents of the file, which hold the comments found by the parser.
+     *
+     * @return the contents of the file
+     */
+    /* package */ FileContents getContents() {
+        return contents;
+    }
+
+    /**
+     * Gets the root of the AST, parsing the file on the first call.
+     * The same exception is thrown on every call if the file can not be parsed.
+     *
+     * @return the root of the AST
+     * @throws CheckstyleException if the file is not a valid Java source
+     */
+    /* package */ DetailAST getAst() throws CheckstyleException {
+        if (!parsed) {
+            parse();
+        }
+        if (parseException instanceof CheckstyleException checkstyleException) {
+            throw checkstyleException;
+        }
+        if (parseException instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        return ast;
+    }
+
+    /**
+     * Parses the file and keeps either the root of the AST or the exception
+     * thrown by the parser.
+     */
+    private void parse() {
+        parsed = true;
+        try {
+            ast = JavaParser.parse(contents);
+        }
+        // -@cs[IllegalCatch] The same exception has to be thrown to every TreeWalker
+        catch (CheckstyleException | RuntimeException exc) {
+            parseException = exc;
+        }
+    }
+
+    /**
+     * Gets the root of the AST with comment nodes. The AST of an instance which is
+     * not shared gets the comment nodes, as nobody else uses it.
+     *
+     * @return the root of the AST with comment nodes
+     * @throws CheckstyleException if the file is not a valid Java source
+     */
+    /* package */ DetailAST getAstWithComments() throws CheckstyleException {
+        if (!commentsAppended) {
+            DetailAST root = getAst();
+            if (shared && root != null) {
+                root = ((DetailAstImpl) root).copyTree();
+            }
+            final List<DetailAST> nodes = new ArrayList<>();
+            astWithComments = JavaParser.appendHiddenCommentNodes(root, nodes);
+            commentNodes = Collections.unmodifiableList(nodes);
+            commentsAppended = true;
+        }
+        return astWithComments;
+    }
+
+    /**
+     * Gets the comment nodes of the AST with comment nodes, in the order they are
+     * visited when the AST is walked from its root.
+     *
+     * @return the comment nodes
+     * @throws CheckstyleException if the file is not a valid Java source
+     */
+    /* package */ List<DetailAST> getCommentNodes() throws CheckstyleException {
+        getAstWithComments();
+        return commentNodes;
+    }
+
+}
@@ -0,0 +1,199 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2026 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+
+/**
+ * Reads and parses the next files of a list on a pool of parser threads,
+ * while the current file is processed by the thread which takes the files
+ * from the list in their order.
+ *
+ * <p>
+ * At most the given number of files are read and parsed ahead of the current
+ * file, so the memory held by their ASTs is bounded. Each file is looked up in
+ * the cache once, and the result is kept with the file until it is taken.
+ * A file is parsed ahead only if it is not in the cache and it is accepted by
+ * the given filter. The cache lookup and the filter are evaluated by the thread
+ * taking the files, so they do not need to be thread safe. A file which
+ * can not be read by a parser thread is read again by the thread taking it,
+ * so the failure is reported as if the file was not parsed ahead.
+ * </p>
+ */
+final class JavaParsePipeline implements AutoCloseable {
+
+    /** The files to parse, in the order they are taken. */
+    private final List<File> files;
+
+    /** The lookup of the files in the cache. */
+    private final Predicate<File> cacheLookup;
+
+    /** The filter of the files to parse ahead. */
+    private final Predicate<File> filter;
+
+    /** The name of the charset of the files. */
+    private final String charset;
+
+    /** The maximum number of files read and parsed ahead of the current file. */
+    private final int maxFilesAhead;
+
+    /** The parser threads. */
+    private final ExecutorService executor;
+
+    /**
+     * The files looked up in the cache and submitted to the parser threads
+     * by their index in the list, {@code null} if a file is already taken.
+     */
+    private final List<Entry> parsedFiles = new ArrayList<>();
+
+    /** The number of files taken from the list. */
+    private int takenFiles;
+
+    /**
+     * Creates a new {@code JavaParsePipeline} instance.
+     *
+     * @param files the files to parse, in the order they are taken
+     * @param cacheLookup the lookup of the files in the cache
+     * @param filter the filter of the files to parse ahead
+     * @param charset the name of the charset of the files
+     * @param threadsNumber the number of parser threads
+     * @param maxFilesAhead the maximum number of files read and parsed ahead
+     */
+    /* package */ JavaParsePipeline(List<File> files, Predicate<File> cacheLookup,
+            Predicate<File> filter, String charset, int threadsNumber, int maxFilesAhead) {
+        this.files = files;
+        this.cacheLookup = cacheLookup;
+        this.filter = filter;
+        this.charset = charset;
+        this.maxFilesAhead = maxFilesAhead;
+        executor = Executors.newFixedThreadPool(threadsNumber);
+    }
+
+    /**
+     * Takes the next file of the list and submits the following files to the parser
+     * threads, up to the maximum number of files ahead.
+     *
+     * @return the file with the result of its cache lookup and its parsing
+     */
+    /* package */ Entry next() {
+        final int lastFile = Math.min(files.size(), takenFiles + maxFilesAhead + 1);
+        while (parsedFiles.size() < lastFile) {
+            final File file = files.get(parsedFiles.size());
+            final boolean inCache = cacheLookup.test(file);
+            Future<JavaParseCache> parsing = null;
+            if (!inCache && filter.test(file)) {
+                parsing = executor.submit(() -> {
+                    return JavaParseCache.parseAhead(
+                            new FileText(file.getAbsoluteFile(), charset));
+                });
+            }
+            parsedFiles.add(new Entry(inCache, parsing));
+        }
+        final Entry result = parsedFiles.set(takenFiles, null);
+        takenFiles++;
+        return result;
+    }
+
+    /**
+     * Stops the parser threads.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * A file taken from the list, with the result of its cache lookup
+     * and its parsing, if it is parsed ahead.
+     */
+    /* package */ static final class Entry {
+
+        /** Whether the file is in the cache. */
+        private final boolean inCache;
+
+        /** The parsing of the file, or {@code null} if it is not parsed ahead. */
+        private final Future<JavaParseCache> parsing;
+
+        /**
+         * Creates a new {@code Entry} instance.
+         *
+         * @param inCache whether the file is in the cache
+         * @param parsing the parsing of the file, or {@code null} if it is not parsed ahead
+         */
+        private Entry(boolean inCache, Future<JavaParseCache> parsing) {
+            this.inCache = inCache;
+            this.parsing = parsing;
+        }
+
+        /**
+         * Checks whether the file is in the cache.
+         *
+         * @return {@code true} if the file is in the cache
+         */
+        /* package */ boolean isInCache() {
+            return inCache;
+        }
+
+        /**
+         * Waits for the file to be read and parsed, the exception thrown by the parser
+         * is kept by the returned instance and errors are thrown as they were thrown
+         * by the parser thread.
+         *
+         * @return the parsed file, or {@code null} if the file is not parsed ahead
+         *     and has to be read by the caller
+         * @throws CheckstyleException if the current thread is interrupted
+         * @noinspection ProhibitedExceptionThrown
+         * @noinspectionreason ProhibitedExceptionThrown - errors are thrown as they were
+         *      thrown by the parser thread
+         */
+        /* package */ JavaParseCache getParseCache() throws CheckstyleException {
+            JavaParseCache result = null;
+            if (parsing != null) {
+                try {
+                    result = parsing.get();
+                }
+                catch (InterruptedException exc) {
+                    Thread.currentThread().interrupt();
+                    throw new CheckstyleException(
+                            "Interrupted while waiting for a file to be parsed", exc);
+                }
+                catch (ExecutionException exc) {
+                    if (exc.getCause() instanceof Error error) {
+                        throw error;
+                    }
+                    // the file is read again by the caller, which reports the failure
+                }
+            }
+            return result;
+        }
+
+    }
+
+}
@@ -22,24 +22,29 @@ package com.puppycrawl.tools.checkstyle;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Locale;
+import java.util.function.IntSupplier;
 
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.BaseErrorListener;
 import org.antlr.v4.runtime.CharStream;
-import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonToken;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.RecognitionException;
 import org.antlr.v4.runtime.Recognizer;
 import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 
 import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.api.FileContents;
 import com.puppycrawl.tools.checkstyle.api.FileText;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+import com.puppycrawl.tools.checkstyle.grammar.CharSequenceCharStream;
 import com.puppycrawl.tools.checkstyle.grammar.java.JavaLanguageLexer;
 import com.puppycrawl.tools.checkstyle.grammar.java.JavaLanguageParser;
 import com.puppycrawl.tools.checkstyle.utils.ParserUtil;
@@ -68,6 +73,25 @@ public final class JavaParser {
 
     }
 
+    /**
+     * System property name to set the maximum number of states of the DFA
+     * of the Java parser.
+     */
+    public static final String DFA_STATE_LIMIT_PROPERTY = "checkstyle.javaParserDfaStateLimit";
+
+    /** The default maximum number of states of the DFA of the Java parser. */
+    private static final int DEFAULT_DFA_STATE_LIMIT = 50_000;
+
+    /**
+     * The maximum number of states of the DFA of the Java parser. The DFA is
+     * cleared when it grows above the limit after a file is parsed.
+     */
+    private static final int DFA_STATE_LIMIT =
+            Integer.getInteger(DFA_STATE_LIMIT_PROPERTY, DEFAULT_DFA_STATE_LIMIT);
+
+    /** The lock which lets only one thread clear the DFA of the Java parser. */
+    private static final Object DFA_LOCK = new Object();
+
     /** Stop instances being created. **/
     private JavaParser() {
     }
@@ -81,21 +105,16 @@ public final class JavaParser {
      */
     public static DetailAST parse(FileContents contents)
             throws CheckstyleException {
-        final String fullText = contents.getText().getFullText().toString();
-        final CharStream codePointCharStream = CharStreams.fromString(fullText);
+        final CharStream codePointCharStream =
+                CharSequenceCharStream.create(contents.getText().getFullText());
         final JavaLanguageLexer lexer = new JavaLanguageLexer(codePointCharStream, true);
         lexer.setCommentListener(contents);
 
         final CommonTokenStream tokenStream = new CommonTokenStream(lexer);
-        final JavaLanguageParser parser =
-                new JavaLanguageParser(tokenStream, JavaLanguageParser.CLEAR_DFA_LIMIT);
-        parser.setErrorHandler(new CheckstyleParserErrorStrategy());
-        parser.removeErrorListeners();
-        parser.addErrorListener(new CheckstyleErrorListener());
 
         final JavaLanguageParser.CompilationUnitContext compilationUnit;
         try {
-            compilationUnit = parser.compilationUnit();
+            compilationUnit = parseCompilationUnit(tokenStream);
         }
         catch (IllegalStateException exc) {
             final String exceptionMsg = String.format(Locale.ROOT,
@@ -107,6 +126,146 @@ public final class JavaParser {
         return new JavaAstVisitor(tokenStream).visit(compilationUnit);
     }
 
+    /**
+     * Splits a Java source file into tokens without parsing it, and creates the nodes
+     * of the tokens which are leaves of the AST: numeric, character and string literals,
+     * text blocks and comments. The nodes get the same types and texts as in the AST,
+     * text blocks and comments get their child nodes, but the nodes have neither
+     * parents nor siblings. As the file is not parsed, syntax errors are not reported.
+     *
+     * @param contents contains the contents of the file
+     * @return the nodes of the leaf tokens in the order they appear in the file
+     */
+    /* package */ static List<DetailAST> parseTokens(FileContents contents) {
+        final CharStream codePointCharStream =
+                CharSequenceCharStream.create(contents.getText().getFullText());
+        final JavaLanguageLexer lexer = new JavaLanguageLexer(codePointCharStream, true);
+        lexer.setCommentListener(contents);
+
+        final List<DetailAST> result = new ArrayList<>();
+        DetailAstImpl textBlock = null;
+        for (Token token = lexer.nextToken(); token.getType() != Token.EOF;
+                token = lexer.nextToken()) {
+            switch (token.getType()) {
+                case JavaLanguageLexer.DECIMAL_LITERAL, JavaLanguageLexer.HEX_LITERAL,
+                        JavaLanguageLexer.OCT_LITERAL, JavaLanguageLexer.BINARY_LITERAL ->
+                    result.add(createTokenNode(TokenTypes.NUM_INT, token));
+                case JavaLanguageLexer.DECIMAL_LITERAL_LONG, JavaLanguageLexer.HEX_LITERAL_LONG,
+                        JavaLanguageLexer.OCT_LITERAL_LONG, JavaLanguageLexer.BINARY_LITERAL_LONG ->
+                    result.add(createTokenNode(TokenTypes.NUM_LONG, token));
+                case JavaLanguageLexer.FLOAT_LITERAL, JavaLanguageLexer.HEX_FLOAT_LITERAL ->
+                    result.add(createTokenNode(TokenTypes.NUM_FLOAT, token));
+                case JavaLanguageLexer.DOUBLE_LITERAL, JavaLanguageLexer.HEX_DOUBLE_LITERAL ->
+                    result.add(createTokenNode(TokenTypes.NUM_DOUBLE, token));
+                case JavaLanguageLexer.CHAR_LITERAL, JavaLanguageLexer.STRING_LITERAL ->
+                    result.add(createTokenNode(token.getType(), token));
+                case JavaLanguageLexer.TEXT_BLOCK_LITERAL_BEGIN -> {
+                    textBlock = createTokenNode(token.getType(), token);
+                    result.add(textBlock);
+                }
+                case JavaLanguageLexer.TEXT_BLOCK_CONTENT,
+                        JavaLanguageLexer.TEXT_BLOCK_LITERAL_END ->
+                    textBlock.addChild(createTokenNode(token.getType(), token));
+                case JavaLanguageLexer.SINGLE_LINE_COMMENT,
+                        JavaLanguageLexer.BLOCK_COMMENT_BEGIN ->
+                    result.add(createCommentAstFromToken((CommonToken) token));
+                default -> {
+                    // other tokens are not leaves of the AST or change their type in it
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Creates a node without parent and siblings from a token.
+     *
+     * @param tokenType the type of the node
+     * @param token the token to create the node from
+     * @return the node of the token
+     */
+    private static DetailAstImpl createTokenNode(int tokenType, Token token) {
+        final DetailAstImpl node = new DetailAstImpl();
+        node.initialize(token);
+        node.setType(tokenType);
+        return node;
+    }
+
+    /**
+     * Parses the compilation unit of a token stream in two stages. The first stage uses
+     * the faster {@link PredictionMode#SLL} prediction and bails out on the first error,
+     * which is enough for almost every valid file. Only if it fails, the tokens are
+     * parsed again with the full {@link PredictionMode#LL} prediction, which reports
+     * the syntax errors of invalid files.
+     *
+     * @param tokenStream the tokens of the file
+     * @return the parse tree of the compilation unit
+     * @throws IllegalStateException if the tokens are not a valid compilation unit
+     */
+    private static JavaLanguageParser.CompilationUnitContext parseCompilationUnit(
+            CommonTokenStream tokenStream) {
+        final JavaLanguageParser sllParser = new JavaLanguageParser(tokenStream);
+        sllParser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        sllParser.setErrorHandler(new BailErrorStrategy());
+        sllParser.removeErrorListeners();
+
+        JavaLanguageParser.CompilationUnitContext compilationUnit;
+        try {
+            compilationUnit = sllParser.compilationUnit();
+        }
+        catch (ParseCancellationException ignored) {
+            // the tokens are already in the stream, so the lexer is not run again;
+            // a new parser is used, as the state of the first one is not reset by ANTLR
+            tokenStream.seek(0);
+            final JavaLanguageParser parser = new JavaLanguageParser(tokenStream);
+            parser.setErrorHandler(new CheckstyleParserErrorStrategy());
+            parser.removeErrorListeners();
+            parser.addErrorListener(new CheckstyleErrorListener());
+            compilationUnit = parser.compilationUnit();
+        }
+        limitDfaSize(DFA_STATE_LIMIT);
+        return compilationUnit;
+    }
+
+    /**
+     * Clears the DFA of the Java parser if it has more states than the limit.
+     *
+     * @param dfaStateLimit the maximum number of DFA states
+     */
+    /* package */ static void limitDfaSize(int dfaStateLimit) {
+        limitDfaSize(dfaStateLimit, JavaLanguageParser::getDfaStateCount);
+    }
+
+    /**
+     * Clears the DFA of the Java parser if the given number of states is above the limit.
+     *
+     * @param dfaStateLimit the maximum number of DFA states
+     * @param dfaStateCount supplies the number of DFA states
+     * @return whether the DFA was cleared
+     */
+    /* package */ static boolean limitDfaSize(int dfaStateLimit, IntSupplier dfaStateCount) {
+        boolean cleared = false;
+        if (dfaStateCount.getAsInt() > dfaStateLimit) {
+            synchronized (DFA_LOCK) {
+                if (dfaStateCount.getAsInt() > dfaStateLimit) {
+                    JavaLanguageParser.clearDfa();
+                    cleared = true;
+                }
+            }
+        }
+        return cleared;
+    }
+
+    /**
+     * Gets the number of states of the DFA of the Java parser, which is shared
+     * by all threads and is a measure of the memory it uses.
+     *
+     * @return the number of DFA states
+     */
+    public static int getDfaStateCount() {
+        return JavaLanguageParser.getDfaStateCount();
+    }
+
     /**
      * Parse a text and return the parse tree.
      *
@@ -150,6 +309,21 @@ public final class JavaParser {
      * @return root of AST with comment nodes
      */
     public static DetailAST appendHiddenCommentNodes(DetailAST root) {
+        return appendHiddenCommentNodes(root, new ArrayList<>());
+    }
+
+    /**
+     * Appends comment nodes to existing AST and collects the appended comment nodes
+     * in the order they are visited when the AST is walked from its root.
+     * Comment nodes which are put before the root are not collected,
+     * as they are not visited by such walk.
+     *
+     * @param root of AST
+     * @param commentNodes the list to add the appended comment nodes to
+     * @return root of AST with comment nodes
+     */
+    /* package */ static DetailAST appendHiddenCommentNodes(DetailAST root,
+            List<DetailAST> commentNodes) {
         DetailAST curNode = root;
         DetailAST lastNode = root;
 
@@ -159,6 +333,7 @@ public final class JavaParser {
             final List<Token> hiddenBefore = ((DetailAstImpl) curNode).getHiddenBefore();
             if (hiddenBefore != null) {
                 DetailAST currentSibling = curNode;
+                final int commentNodesPosition = commentNodes.size();
 
                 final ListIterator<Token> reverseCommentsIterator =
                         hiddenBefore.listIterator(hiddenBefore.size());
@@ -168,6 +343,9 @@ public final class JavaParser {
                             createCommentAstFromToken((CommonToken)
                                     reverseCommentsIterator.previous());
                     ((DetailAstImpl) currentSibling).addPreviousSibling(newCommentNode);
+                    if (curNode != root) {
+                        commentNodes.add(commentNodesPosition, newCommentNode);
+                    }
 
                     currentSibling = newCommentNode;
                 }
@@ -189,6 +367,7 @@ public final class JavaParser {
                             createCommentAstFromToken((CommonToken) token);
 
                     ((DetailAstImpl) currentSibling).addNextSibling(newCommentNode);
+                    commentNodes.add(newCommentNode);
 
                     currentSibling = newCommentNode;
                 }
@@ -0,0 +1,115 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2026 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.util.Set;
+
+import com.puppycrawl.tools.checkstyle.JavadocDetailNodeParser.ParseStatus;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.checks.javadoc.AbstractJavadocCheck;
+
+/**
+ * Gives {@link TreeWalker} access to the methods of {@link AbstractJavadocCheck}
+ * it uses to walk the javadoc comments once for all javadoc checks. These methods
+ * are not part of the API of the checks, so they are kept package-private in
+ * {@code AbstractJavadocCheck}, which provides the only instance of this class.
+ * This class is internal and should not be used by checks or other modules.
+ */
+public abstract class JavadocCheckAccessor {
+
+    /** The instance provided by {@code AbstractJavadocCheck}. */
+    private static JavadocCheckAccessor instance;
+
+    /**
+     * Creates a new {@code JavadocCheckAccessor} instance.
+     */
+    protected JavadocCheckAccessor() {
+        // no code by default
+    }
+
+    /**
+     * Sets the instance of the accessor. It can be set only once,
+     * by {@code AbstractJavadocCheck} when it is initialized.
+     *
+     * @param accessor the instance of the accessor
+     * @throws IllegalStateException if the instance is already set
+     */
+    public static void setInstance(JavadocCheckAccessor accessor) {
+        if (instance != null) {
+            throw new IllegalStateException("Javadoc check accessor is already set");
+        }
+        instance = accessor;
+    }
+
+    /**
+     * Gets the instance of the accessor. It is set as soon as a javadoc check is created.
+     *
+     * @return the instance of the accessor
+     */
+    /* package */ static JavadocCheckAccessor getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns the javadoc tokens the check is interested in.
+     *
+     * @param check the javadoc check
+     * @return the set of javadoc token ids
+     */
+    protected abstract Set<Integer> getJavadocTokens(AbstractJavadocCheck check);
+
+    /**
+     * Whether the check processes javadoc comments which have no tags and no HTML.
+     *
+     * @param check the javadoc check
+     * @return true if the check processes plain javadoc comments
+     */
+    protected abstract boolean isPlainJavadocProcessed(AbstractJavadocCheck check);
+
+    /**
+     * Parses a javadoc comment, unless it is already parsed in the current file.
+     *
+     * @param blockCommentNode the block comment node of the javadoc comment
+     * @param parser the parser to use if the comment is not parsed yet
+     * @return the result of parsing the javadoc comment
+     */
+    protected abstract ParseStatus parseJavadocComment(DetailAST blockCommentNode,
+            JavadocDetailNodeParser parser);
+
+    /**
+     * Notifies the check that the tree of a javadoc comment is about to be walked.
+     *
+     * @param check the javadoc check
+     * @param blockCommentNode the block comment node of the javadoc comment
+     * @param status the result of parsing the javadoc comment
+     */
+    protected abstract void beginJavadocComment(AbstractJavadocCheck check,
+            DetailAST blockCommentNode, ParseStatus status);
+
+    /**
+     * Notifies the check that the tree of a javadoc comment was walked.
+     *
+     * @param check the javadoc check
+     * @param status the result of parsing the javadoc comment
+     */
+    protected abstract void finishJavadocComment(AbstractJavadocCheck check,
+            ParseStatus status);
+
+}
@@ -27,10 +27,12 @@ import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.Locale;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.PropertyResourceBundle;
 import java.util.ResourceBundle;
 import java.util.ResourceBundle.Control;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.puppycrawl.tools.checkstyle.utils.UnmodifiableCollectionUtil;
 
@@ -41,6 +43,19 @@ import com.puppycrawl.tools.checkstyle.utils.UnmodifiableCollectionUtil;
  */
 public class LocalizedMessage {
 
+    /**
+     * The compiled formats of the messages of each source class, by bundle, key and locale.
+     * Formats are kept per class, so they are released together with the class and its
+     * class loader.
+     */
+    private static final ClassValue<Map<FormatKey, MessageFormat>> FORMATS =
+            new ClassValue<>() {
+                @Override
+                protected Map<FormatKey, MessageFormat> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
     /** The locale to localise messages to. **/
     private static Locale messageLocale = Locale.getDefault();
 
@@ -100,30 +115,51 @@ public class LocalizedMessage {
     }
 
     /**
-     * Gets the translated message.
+     * Gets the locale the messages are localized to.
+     *
+     * @return the locale of the messages.
+     */
+    /* package */ static Locale getLocale() {
+        return messageLocale;
+    }
+
+    /**
+     * Gets the translated message. The format of the message is looked up in the bundle
+     * and compiled once for each locale, and reused by all messages with the same key.
      *
      * @return the translated message.
      */
     public String getMessage() {
-        String result;
+        final Locale locale = messageLocale;
+        final MessageFormat formatter = FORMATS.get(sourceClass).computeIfAbsent(
+                new FormatKey(bundle, key, locale), formatKey -> createFormat(locale));
+        // MessageFormat is not thread safe, so the shared instance is not used directly
+        return ((MessageFormat) formatter.clone()).format(args);
+    }
+
+    /**
+     * Creates the format of the message.
+     *
+     * @param locale the locale to localise the message to.
+     * @return the compiled format of the message.
+     */
+    private MessageFormat createFormat(Locale locale) {
+        String pattern;
         try {
             // Important to use the default class loader, and not the one in
             // the GlobalProperties object. This is because the class loader in
             // the GlobalProperties is specified by the user for resolving
             // custom classes.
-            final ResourceBundle resourceBundle = getBundle();
-            final String pattern = resourceBundle.getString(key);
-            final MessageFormat formatter = new MessageFormat(pattern, Locale.ROOT);
-            result = formatter.format(args);
+            final ResourceBundle resourceBundle = getBundle(locale);
+            pattern = resourceBundle.getString(key);
         }
         catch (final MissingResourceException ignored) {
             // If the Check author didn't provide i18n resource bundles
             // and logs audit event messages directly, this will return
             // the author's original message
-            final MessageFormat formatter = new MessageFormat(key, Locale.ROOT);
-            result = formatter.format(args);
+            pattern = key;
         }
-        return result;
+        return new MessageFormat(pattern, Locale.ROOT);
     }
 
     /**
@@ -131,10 +167,11 @@ public class LocalizedMessage {
      * of the class emitting this message, to be sure to get the correct
      * bundle.
      *
+     * @param locale the locale of the bundle.
      * @return a ResourceBundle.
      */
-    private ResourceBundle getBundle() {
-        return ResourceBundle.getBundle(bundle, messageLocale, sourceClass.getClassLoader(),
+    private ResourceBundle getBundle(Locale locale) {
+        return ResourceBundle.getBundle(bundle, locale, sourceClass.getClassLoader(),
                 new Utf8Control());
     }
 
@@ -174,4 +211,14 @@ public class LocalizedMessage {
 
     }
 
+    /**
+     * The key of a compiled message format of a source class.
+     *
+     * @param bundle resource bundle name
+     * @param key the key to locate the translation
+     * @param locale the locale the message is localised to
+     */
+    private record FormatKey(String bundle, String key, Locale locale) {
+    }
+
 }
@@ -418,7 +418,8 @@ public final class Main {
                         getOutputStreamOptions(options.outputPath));
             }
             else {
-                listener = createListener(options.format, options.outputPath);
+                listener = createListener(options.format, options.outputPath,
+                        options.sarifStreaming);
             }
 
             rootModule.setModuleClassLoader(moduleClassLoader);
@@ -505,15 +506,20 @@ public final class Main {
      *
      * @param format format of the audit listener
      * @param outputLocation the location of output
+     * @param sarifStreaming whether a SARIF listener writes results as soon as they are reported
      * @return a fresh new {@code AuditListener}
      * @throws IOException when provided output location is not found
      */
-    private static AuditListener createListener(OutputFormat format, Path outputLocation)
-            throws IOException {
+    private static AuditListener createListener(OutputFormat format, Path outputLocation,
+            boolean sarifStreaming) throws IOException {
         final OutputStream out = getOutputStream(outputLocation);
         final OutputStreamOptions closeOutputStreamOption =
                 getOutputStreamOptions(outputLocation);
-        return format.createListener(out, closeOutputStreamOption);
+        final AuditListener result = format.createListener(out, closeOutputStreamOption);
+        if (sarifStreaming && result instanceof SarifLogger sarifLogger) {
+            sarifLogger.setStreaming(true);
+        }
+        return result;
     }
 
     /**
@@ -753,6 +759,14 @@ public final class Main {
                 + "and DefaultLogger respectively. Defaults to ${DEFAULT-VALUE}.")
         private OutputFormat format = DEFAULT_OUTPUT_FORMAT;
 
+        /** Option that controls whether SARIF results are written as soon as they are reported. */
+        @Option(names = {"-S", "--sarif-streaming"},
+                description = "Writes each result of the SARIF output format as soon as it is "
+                        + "reported, so the memory used by the report does not grow with the "
+                        + "number of violations. The results are written before the rules. "
+                        + "Used only with -f sarif option.")
+        private boolean sarifStreaming;
+
         /** Option that controls whether to print the AST of the file. */
         @Option(names = {"-t", "--tree"},
                 description = "This option is used to display the Abstract Syntax Tree (AST) "
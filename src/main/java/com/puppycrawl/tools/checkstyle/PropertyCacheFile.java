@@ -19,26 +19,51 @@
 
 package com.puppycrawl.tools.checkstyle;
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.math.BigInteger;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
 
 import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
 import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+import com.puppycrawl.tools.checkstyle.api.Violation;
 import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
 import com.puppycrawl.tools.checkstyle.utils.OsSpecificUtil;
 
@@ -52,6 +77,28 @@ import com.puppycrawl.tools.checkstyle.utils.OsSpecificUtil;
  * cache file to ensure the cache is invalidated when the
  * configuration has changed.
  *
+ * <p>
+ * When content hashes are enabled, a hash of the content of each file is stored
+ * next to its timestamp, so a file whose timestamp changed but whose content did not
+ * (for example, in a fresh checkout) is still considered checked ok. In this mode
+ * the cache is persisted in a compact binary format instead of a property file.
+ * Both formats are recognized when the cache is loaded.
+ * </p>
+ *
+ * <p>
+ * The violations of a file can be stored in the cache as well, so the audit
+ * of a file that did not change can be reported without checking the file again.
+ * </p>
+ *
+ * <p>
+ * A cache directory can be used as a second tier of the cache, which might be shared
+ * by many machines. Its entries are addressed by the configuration hash, the hashes of
+ * the external resources, the file name relative to the base directory and the hash
+ * of the file content, so the results of checking a file can be reused anywhere the
+ * same file is checked with the same configuration. Entries are written atomically,
+ * and the least recently used entries are removed when the directory exceeds its size limit.
+ * </p>
+ *
  */
 public final class PropertyCacheFile {
 
@@ -71,6 +118,13 @@ public final class PropertyCacheFile {
      */
     public static final String EXTERNAL_RESOURCE_KEY_PREFIX = "module-resource*?:";
 
+    /**
+     * The property prefix to use for storing the violations of a file.
+     * To avoid name clashes with the files that are checked the prefix
+     * is chosen in such a way that it cannot be a valid file name.
+     */
+    public static final String VIOLATIONS_KEY_PREFIX = "violations*?:";
+
     /** Size of default byte array for buffer. */
     private static final int BUFFER_SIZE = 1024;
 
@@ -80,9 +134,39 @@ public final class PropertyCacheFile {
     /** Default number for base 16 encoding. */
     private static final int BASE_16 = 16;
 
+    /** Magic number at the start of a cache file in binary format. */
+    private static final int BINARY_FORMAT_MAGIC = 0x43534348;
+
+    /** Version of the binary format. */
+    private static final int BINARY_FORMAT_VERSION = 3;
+
+    /** Reflected polynomial of the CRC-64/XZ checksum used as content hash. */
+    private static final long CRC64_POLYNOMIAL = 0xC96C5795D7870F42L;
+
+    /** Mask of the lowest byte of a checksum. */
+    private static final int BYTE_MASK = 0xFF;
+
+    /** Lookup table of the CRC-64 checksum of each byte value. */
+    private static final long[] CRC64_TABLE = createCrc64Table();
+
+    /**
+     * Custom message of a violation restored from the cache. The argument of
+     * the message is the message of the violation at the time it was cached.
+     */
+    private static final String CACHED_VIOLATION_MESSAGE = "{0}";
+
+    /** The digest algorithm used to calculate keys of cache directory entries. */
+    private static final String CACHE_DIRECTORY_DIGEST_ALGORITHM = "SHA-256";
+
+    /** The number of leading key characters to use as sub-directory of an entry. */
+    private static final int CACHE_DIRECTORY_SHARD_LENGTH = 2;
+
     /** The details on files. **/
     private final Properties details = new Properties();
 
+    /** The content hashes of files that have checked ok. **/
+    private final Map<String, Long> contentHashes = new HashMap<>();
+
     /** Configuration object. **/
     private final Configuration config;
 
@@ -92,6 +176,39 @@ public final class PropertyCacheFile {
     /** Generated configuration hash. **/
     private String configHash;
 
+    /**
+     * The content hashes of files which were looked up in the cache and were not in it,
+     * taken from the content read before the files are checked.
+     **/
+    private final Map<String, Long> lookedUpContentHashes = new HashMap<>();
+
+    /**
+     * The keys of the cache directory entries of files which were looked up in the cache
+     * and were not in it, taken from the content read before the files are checked.
+     **/
+    private final Map<String, String> lookedUpCacheDirectoryKeys = new HashMap<>();
+
+    /** Whether content hashes of files are stored in the cache. **/
+    private boolean contentHashEnabled;
+
+    /** The cache directory used as second tier of the cache. **/
+    private Path cacheDirectory;
+
+    /** The maximum size of the cache directory in bytes, zero for no limit. **/
+    private long cacheDirectoryMaxSize;
+
+    /** The base directory to resolve file names in cache directory entries against. **/
+    private String basedir;
+
+    /** The keys of the cache directory entries to write for the files in cache. **/
+    private final Map<String, String> cacheDirectoryEntries = new HashMap<>();
+
+    /**
+     * Digest of the configuration hash and the hashes of the external resources, which
+     * starts the keys of all cache directory entries, or {@code null} if not computed yet.
+     */
+    private MessageDigest cacheDirectoryDigest;
+
     /**
      * Creates a new {@code PropertyCacheFile} instance.
      *
@@ -110,6 +227,42 @@ public final class PropertyCacheFile {
         this.fileName = fileName;
     }
 
+    /**
+     * Sets whether content hashes of files are stored in the cache and
+     * the cache is persisted in binary format.
+     *
+     * @param contentHashEnabled whether content hashes are enabled
+     */
+    public void setContentHashEnabled(boolean contentHashEnabled) {
+        this.contentHashEnabled = contentHashEnabled;
+    }
+
+    /**
+     * Sets the cache directory used as second tier of the cache.
+     *
+     * @param cacheDirectory the cache directory or {@code null} to use no cache directory
+     * @param maxSize the maximum size of the cache directory in bytes, zero for no limit
+     */
+    public void setCacheDirectory(String cacheDirectory, long maxSize) {
+        if (cacheDirectory == null) {
+            this.cacheDirectory = null;
+        }
+        else {
+            this.cacheDirectory = Path.of(cacheDirectory);
+        }
+        cacheDirectoryMaxSize = maxSize;
+    }
+
+    /**
+     * Sets the base directory to resolve file names in cache directory entries against,
+     * so machines which check the same files in different locations share entries.
+     *
+     * @param basedir the base directory or {@code null} to use absolute file names
+     */
+    public void setBasedir(String basedir) {
+        this.basedir = basedir;
+    }
+
     /**
      * Load cached values from file.
      *
@@ -119,16 +272,23 @@ public final class PropertyCacheFile {
         // get the current config so if the file isn't found
         // the first time the hash will be added to output file
         configHash = getHashCodeBasedOnObjectContent(config);
+        cacheDirectoryDigest = null;
         final Path path = Path.of(fileName);
         if (Files.exists(path)) {
-            try (InputStream inStream = Files.newInputStream(path)) {
-                details.load(inStream);
-                final String cachedConfigHash = details.getProperty(CONFIG_HASH_KEY);
-                if (!configHash.equals(cachedConfigHash)) {
-                    // Detected configuration change - clear cache
-                    reset();
+            final byte[] content = Files.readAllBytes(path);
+            if (isBinaryFormat(content)) {
+                loadBinary(content);
+            }
+            else {
+                try (InputStream inStream = new ByteArrayInputStream(content)) {
+                    details.load(inStream);
                 }
             }
+            final String cachedConfigHash = details.getProperty(CONFIG_HASH_KEY);
+            if (!configHash.equals(cachedConfigHash)) {
+                // Detected configuration change - clear cache
+                reset();
+            }
         }
         else {
             // put the hash in the file if the file is going to be created
@@ -136,12 +296,50 @@ public final class PropertyCacheFile {
         }
     }
 
+    /**
+     * Checks whether the content of a cache file is in binary format.
+     *
+     * @param content the content of the cache file
+     * @return true if the content starts with the binary format magic number
+     */
+    private static boolean isBinaryFormat(byte[] content) {
+        return content.length >= Integer.BYTES
+                && ByteBuffer.wrap(content).getInt() == BINARY_FORMAT_MAGIC;
+    }
+
+    /**
+     * Loads cached values from the content of a cache file in binary format.
+     *
+     * @param content the content of the cache file
+     * @throws IOException when the content is malformed
+     */
+    private void loadBinary(byte[] content) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(content))) {
+            // skip the magic number
+            in.readInt();
+            final int version = in.readInt();
+            if (version == BINARY_FORMAT_VERSION) {
+                final int detailsCount = in.readInt();
+                for (int index = 0; index < detailsCount; index++) {
+                    details.setProperty(readString(in), readString(in));
+                }
+                final int contentHashesCount = in.readInt();
+                for (int index = 0; index < contentHashesCount; index++) {
+                    contentHashes.put(readString(in), in.readLong());
+                }
+            }
+        }
+    }
+
     /**
      * Cleans up the object and updates the cache file.
      *
      * @throws IOException  when there is a problems with file save
      */
     public void persist() throws IOException {
+        if (cacheDirectory != null) {
+            writeCacheDirectoryEntries();
+        }
         final Path path = Path.of(fileName);
         final Path directory = path.getParent();
 
@@ -149,38 +347,289 @@ public final class PropertyCacheFile {
             OsSpecificUtil.updateDirectory(directory);
         }
         try (OutputStream out = Files.newOutputStream(path)) {
-            details.store(out, null);
+            if (contentHashEnabled) {
+                storeBinary(out);
+            }
+            else {
+                details.store(out, null);
+            }
+        }
+    }
+
+    /**
+     * Writes cached values to a stream in binary format.
+     *
+     * @param out the stream to write to
+     * @throws IOException when there is a problems with writing
+     */
+    private void storeBinary(OutputStream out) throws IOException {
+        final DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(BINARY_FORMAT_MAGIC);
+        data.writeInt(BINARY_FORMAT_VERSION);
+        final Set<String> names = details.stringPropertyNames();
+        data.writeInt(names.size());
+        for (String name : names) {
+            writeString(data, name);
+            writeString(data, details.getProperty(name));
+        }
+        data.writeInt(contentHashes.size());
+        for (Map.Entry<String, Long> entry : contentHashes.entrySet()) {
+            writeString(data, entry.getKey());
+            data.writeLong(entry.getValue());
+        }
+        data.flush();
+    }
+
+    /**
+     * Writes a string of any length to a stream in UTF-8 encoding, prefixed with
+     * the number of bytes. {@link DataOutputStream#writeUTF(String)} is not used
+     * as it is limited to 65535 bytes.
+     *
+     * @param out the stream to write to
+     * @param value the string to write
+     * @throws IOException when there is a problems with writing
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutputStream, String)}.
+     *
+     * @param in the stream to read from
+     * @return the string
+     * @throws IOException when the stream is malformed
+     */
+    private static String readString(DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        if (length < 0 || length > in.available()) {
+            throw new IOException("Malformed cache content");
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a string which might be {@code null} to a stream.
+     *
+     * @param out the stream to write to
+     * @param value the string to write or {@code null}
+     * @throws IOException when there is a problems with writing
+     */
+    private static void writeNullableString(DataOutputStream out, String value)
+            throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeString(out, value);
         }
     }
 
+    /**
+     * Reads a string written by {@link #writeNullableString(DataOutputStream, String)}.
+     *
+     * @param in the stream to read from
+     * @return the string or {@code null}
+     * @throws IOException when the stream is malformed
+     */
+    private static String readNullableString(DataInputStream in) throws IOException {
+        String result = null;
+        if (in.readBoolean()) {
+            result = readString(in);
+        }
+        return result;
+    }
+
     /**
      * Resets the cache to be empty except for the configuration hash.
      */
     public void reset() {
         details.clear();
+        contentHashes.clear();
+        lookedUpContentHashes.clear();
+        lookedUpCacheDirectoryKeys.clear();
+        cacheDirectoryEntries.clear();
+        cacheDirectoryDigest = null;
         details.setProperty(CONFIG_HASH_KEY, configHash);
     }
 
     /**
      * Checks that file is in cache.
+     * When content hashes are enabled, a file with a different timestamp is in cache
+     * if its content did not change since it was checked ok.
+     * Otherwise, the file is looked up in the cache directory, if it is set.
+     * The content hash and the key of the cache directory entry of a file which is not
+     * in cache are kept until the file is {@link #put(String, long) put} in the cache,
+     * so they are of the content read before the file is checked, and not of a later
+     * change of the file.
      *
      * @param uncheckedFileName the file to check
      * @param timestamp the timestamp of the file to check
      * @return whether the specified file has already been checked ok
      */
     public boolean isInCache(String uncheckedFileName, long timestamp) {
-        final String lastChecked = details.getProperty(uncheckedFileName);
-        return Objects.equals(lastChecked, Long.toString(timestamp));
+        boolean inCache = Objects.equals(details.getProperty(uncheckedFileName),
+                Long.toString(timestamp));
+        lookedUpContentHashes.remove(uncheckedFileName);
+        lookedUpCacheDirectoryKeys.remove(uncheckedFileName);
+        if (!inCache && (contentHashEnabled || cacheDirectory != null)) {
+            inCache = isContentInCache(uncheckedFileName, timestamp,
+                    readContent(uncheckedFileName));
+        }
+        return inCache;
+    }
+
+    /**
+     * Checks that the content of a file with a different timestamp is in cache,
+     * by its content hash or in the cache directory.
+     *
+     * @param uncheckedFileName the file to check
+     * @param timestamp the timestamp of the file to check
+     * @param content the content of the file or {@code null} if it can not be read
+     * @return whether the content of the file has already been checked ok
+     */
+    private boolean isContentInCache(String uncheckedFileName, long timestamp,
+            byte[] content) {
+        boolean inCache = false;
+        Long contentHash = null;
+        if (contentHashEnabled) {
+            contentHash = getContentHash(content);
+            inCache = contentHash != null && details.containsKey(uncheckedFileName)
+                    && contentHash.equals(contentHashes.get(uncheckedFileName));
+        }
+        String key = null;
+        if (!inCache && cacheDirectory != null) {
+            key = getCacheDirectoryKey(uncheckedFileName, content);
+            inCache = loadCacheDirectoryEntry(uncheckedFileName, key);
+        }
+        if (inCache) {
+            details.setProperty(uncheckedFileName, Long.toString(timestamp));
+            if (contentHash != null) {
+                contentHashes.put(uncheckedFileName, contentHash);
+            }
+        }
+        else {
+            if (contentHash != null) {
+                lookedUpContentHashes.put(uncheckedFileName, contentHash);
+            }
+            if (key != null) {
+                lookedUpCacheDirectoryKeys.put(uncheckedFileName, key);
+            }
+        }
+        return inCache;
     }
 
     /**
      * Records that a file checked ok.
+     * The content hash and the key of the cache directory entry of the file are the ones
+     * taken when the file was {@link #isInCache(String, long) looked up} in the cache
+     * before it was checked. A file which was not looked up is recorded without content
+     * hash and is not shared in the cache directory.
      *
      * @param checkedFileName name of the file that checked ok
      * @param timestamp the timestamp of the file
      */
     public void put(String checkedFileName, long timestamp) {
         details.setProperty(checkedFileName, Long.toString(timestamp));
+        details.remove(VIOLATIONS_KEY_PREFIX + checkedFileName);
+        final String key = lookedUpCacheDirectoryKeys.remove(checkedFileName);
+        if (key == null) {
+            cacheDirectoryEntries.remove(checkedFileName);
+        }
+        else {
+            cacheDirectoryEntries.put(checkedFileName, key);
+        }
+        final Long contentHash = lookedUpContentHashes.remove(checkedFileName);
+        if (contentHash == null) {
+            contentHashes.remove(checkedFileName);
+        }
+        else {
+            contentHashes.put(checkedFileName, contentHash);
+        }
+    }
+
+    /**
+     * Records the violations of a file which is in the cache. The violations are
+     * stored with their messages in the current locale.
+     *
+     * @param checkedFileName name of the file
+     * @param violations the violations of the file
+     * @throws IllegalStateException when the violations can not be stored
+     */
+    public void putViolations(String checkedFileName, Collection<Violation> violations) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(violations.size());
+            for (Violation violation : violations) {
+                out.writeInt(violation.getLineNo());
+                out.writeInt(violation.getColumnNo());
+                out.writeInt(violation.getColumnCharIndex());
+                out.writeInt(violation.getTokenType());
+                writeString(out, violation.getSeverityLevel().getName());
+                writeNullableString(out, violation.getModuleId());
+                writeNullableString(out, violation.getKey());
+                writeString(out, violation.getSourceName());
+                writeString(out, violation.getViolation());
+            }
+        }
+        catch (IOException exc) {
+            throw new IllegalStateException("Unable to store violations.", exc);
+        }
+        details.setProperty(VIOLATIONS_KEY_PREFIX + checkedFileName,
+                Base64.getEncoder().encodeToString(bytes.toByteArray()));
+    }
+
+    /**
+     * Retrieves the violations of a file which is in the cache.
+     *
+     * @param name the name of the file
+     * @param classLoader the class loader to load the sources of the violations with
+     * @return the violations of the file, an empty list if no violations are stored,
+     *         or {@code null} if the stored violations can not be restored.
+     */
+    public List<Violation> getViolations(String name, ClassLoader classLoader) {
+        final String value = details.getProperty(VIOLATIONS_KEY_PREFIX + name);
+        List<Violation> result = Collections.emptyList();
+        if (value != null) {
+            try (DataInputStream in = new DataInputStream(
+                    new ByteArrayInputStream(Base64.getDecoder().decode(value)))) {
+                final int count = in.readInt();
+                final List<Violation> violations = new ArrayList<>();
+                for (int index = 0; index < count; index++) {
+                    violations.add(readViolation(in, classLoader));
+                }
+                result = Collections.unmodifiableList(violations);
+            }
+            catch (IOException | IllegalArgumentException | ClassNotFoundException exc) {
+                result = null;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reads a violation written by {@link #putViolations(String, Collection)}.
+     *
+     * @param in the stream to read from
+     * @param classLoader the class loader to load the source of the violation with
+     * @return the violation
+     * @throws IOException when the stream is malformed
+     * @throws ClassNotFoundException when the source of the violation can not be loaded
+     */
+    private static Violation readViolation(DataInputStream in, ClassLoader classLoader)
+            throws IOException, ClassNotFoundException {
+        final int lineNo = in.readInt();
+        final int columnNo = in.readInt();
+        final int columnCharIndex = in.readInt();
+        final int tokenType = in.readInt();
+        final SeverityLevel severityLevel = SeverityLevel.getInstance(readString(in));
+        final String moduleId = readNullableString(in);
+        final String key = readNullableString(in);
+        final Class<?> sourceClass = Class.forName(readString(in), false, classLoader);
+        final String message = readString(in);
+        return new Violation(lineNo, columnNo, columnCharIndex, tokenType, null, key,
+                new Object[] {message}, severityLevel, moduleId, sourceClass,
+                CACHED_VIOLATION_MESSAGE);
     }
 
     /**
@@ -200,6 +649,272 @@ public final class PropertyCacheFile {
      */
     public void remove(String checkedFileName) {
         details.remove(checkedFileName);
+        details.remove(VIOLATIONS_KEY_PREFIX + checkedFileName);
+        contentHashes.remove(checkedFileName);
+        lookedUpContentHashes.remove(checkedFileName);
+        lookedUpCacheDirectoryKeys.remove(checkedFileName);
+        cacheDirectoryEntries.remove(checkedFileName);
+    }
+
+    /**
+     * Looks up a file in the cache directory. If the entry of the file is found,
+     * the violations of the file are put in this cache and the entry is marked
+     * as recently used.
+     *
+     * @param uncheckedFileName the file to look up
+     * @param key the key of the entry of the file or {@code null} if it can not be read
+     * @return whether the file has already been checked ok
+     */
+    private boolean loadCacheDirectoryEntry(String uncheckedFileName, String key) {
+        boolean inCache = false;
+        if (key != null) {
+            final Path entry = getCacheDirectoryEntry(key);
+            try {
+                final String violations =
+                        new String(Files.readAllBytes(entry), StandardCharsets.UTF_8);
+                Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+                if (violations.isEmpty()) {
+                    details.remove(VIOLATIONS_KEY_PREFIX + uncheckedFileName);
+                }
+                else {
+                    details.setProperty(VIOLATIONS_KEY_PREFIX + uncheckedFileName, violations);
+                }
+                contentHashes.remove(uncheckedFileName);
+                inCache = true;
+            }
+            catch (IOException exc) {
+                // the entry does not exist or is not accessible, the file is checked again
+            }
+        }
+        return inCache;
+    }
+
+    /**
+     * Writes the cache directory entries of the files which were checked since
+     * the cache was loaded, and removes the least recently used entries if the
+     * cache directory exceeds its size limit. The cache directory is a best effort
+     * cache, so failures to write or remove entries are ignored.
+     */
+    private void writeCacheDirectoryEntries() {
+        for (Map.Entry<String, String> fileEntry : cacheDirectoryEntries.entrySet()) {
+            final String name = fileEntry.getKey();
+            if (details.getProperty(name) != null) {
+                final String violations =
+                        details.getProperty(VIOLATIONS_KEY_PREFIX + name, "");
+                writeCacheDirectoryEntry(getCacheDirectoryEntry(fileEntry.getValue()),
+                        violations.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        cacheDirectoryEntries.clear();
+        if (cacheDirectoryMaxSize > 0) {
+            evictCacheDirectoryEntries();
+        }
+    }
+
+    /**
+     * Writes an entry of the cache directory atomically, so other processes which
+     * share the cache directory never read a partially written entry.
+     *
+     * @param entry the entry to write
+     * @param content the content of the entry
+     */
+    private static void writeCacheDirectoryEntry(Path entry, byte[] content) {
+        try {
+            final Path directory = entry.getParent();
+            Files.createDirectories(directory);
+            final Path temporaryFile = Files.createTempFile(directory,
+                    entry.getFileName().toString(), ".tmp");
+            try {
+                Files.write(temporaryFile, content);
+                try {
+                    Files.move(temporaryFile, entry, StandardCopyOption.ATOMIC_MOVE);
+                }
+                catch (AtomicMoveNotSupportedException exc) {
+                    Files.move(temporaryFile, entry, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+        }
+        catch (IOException exc) {
+            // the cache directory is a best effort cache, the entry is just not shared
+        }
+    }
+
+    /**
+     * Removes the least recently used entries of the cache directory
+     * until its size does not exceed the size limit.
+     */
+    private void evictCacheDirectoryEntries() {
+        final Map<Path, BasicFileAttributes> entries = new HashMap<>();
+        try (Stream<Path> paths = Files.walk(cacheDirectory, 2)) {
+            paths.filter(Files::isRegularFile).forEach(path -> {
+                try {
+                    entries.put(path, Files.readAttributes(path, BasicFileAttributes.class));
+                }
+                catch (IOException exc) {
+                    // the entry was removed by another process
+                }
+            });
+        }
+        catch (IOException | UncheckedIOException exc) {
+            // the cache directory is not accessible, nothing to evict
+        }
+        long size = entries.values().stream().mapToLong(BasicFileAttributes::size).sum();
+        final List<Path> leastRecentlyUsed = entries.keySet().stream()
+                .sorted(Comparator.comparing(path -> entries.get(path).lastModifiedTime()))
+                .toList();
+        for (Path entry : leastRecentlyUsed) {
+            if (size <= cacheDirectoryMaxSize) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(entry);
+            }
+            catch (IOException exc) {
+                // the entry is in use or can not be removed, it is accounted as removed
+            }
+            size -= entries.get(entry).size();
+        }
+    }
+
+    /**
+     * Gets the path of an entry in the cache directory.
+     *
+     * @param key the key of the entry
+     * @return the path of the entry
+     */
+    private Path getCacheDirectoryEntry(String key) {
+        return cacheDirectory.resolve(key.substring(0, CACHE_DIRECTORY_SHARD_LENGTH))
+                .resolve(key);
+    }
+
+    /**
+     * Calculates the key of the cache directory entry of a file. The key is a digest of
+     * the configuration hash, the hashes of the external resources, the locale of the
+     * stored violation messages, the file name relative to the base directory and
+     * the content of the file.
+     *
+     * @param name the name of the file
+     * @param content the content of the file or {@code null} if it can not be read
+     * @return the key or {@code null} if the file can not be read.
+     */
+    private String getCacheDirectoryKey(String name, byte[] content) {
+        String result = null;
+        if (content != null) {
+            try {
+                final MessageDigest digest = (MessageDigest) getCacheDirectoryDigest().clone();
+                updateDigest(digest, LocalizedMessage.getLocale().toLanguageTag());
+                updateDigest(digest, CommonUtil.relativizePath(basedir, name));
+                digest.update(content);
+                result = HexFormat.of().formatHex(digest.digest());
+            }
+            catch (CloneNotSupportedException | IllegalArgumentException
+                    | NoSuchAlgorithmException exc) {
+                result = null;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the digest of the configuration hash and the hashes of the external
+     * resources. The digest is computed once and cloned for each file.
+     *
+     * @return the digest, which must not be updated.
+     * @throws NoSuchAlgorithmException if the digest algorithm is not available
+     */
+    private MessageDigest getCacheDirectoryDigest() throws NoSuchAlgorithmException {
+        if (cacheDirectoryDigest == null) {
+            final MessageDigest digest =
+                    MessageDigest.getInstance(CACHE_DIRECTORY_DIGEST_ALGORITHM);
+            final Map<String, String> resources = new TreeMap<>();
+            for (String key : details.stringPropertyNames()) {
+                if (key.startsWith(EXTERNAL_RESOURCE_KEY_PREFIX)) {
+                    resources.put(key, details.getProperty(key));
+                }
+            }
+            updateDigest(digest, details.getProperty(CONFIG_HASH_KEY, ""));
+            for (Map.Entry<String, String> resource : resources.entrySet()) {
+                updateDigest(digest, resource.getKey());
+                updateDigest(digest, resource.getValue());
+            }
+            cacheDirectoryDigest = digest;
+        }
+        return cacheDirectoryDigest;
+    }
+
+    /**
+     * Updates a digest with a string, terminated by a zero byte to keep
+     * consecutive strings apart.
+     *
+     * @param digest the digest to update
+     * @param value the string
+     */
+    private static void updateDigest(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    /**
+     * Reads the content of a file when it is looked up in the cache, which is hashed
+     * for the content hash and the key of the cache directory entry.
+     *
+     * @param name the name of the file.
+     * @return the content or {@code null} if the file can not be read.
+     */
+    private static byte[] readContent(String name) {
+        byte[] result;
+        try {
+            result = Files.readAllBytes(Path.of(name));
+        }
+        catch (IOException | IllegalArgumentException exc) {
+            result = null;
+        }
+        return result;
+    }
+
+    /**
+     * Calculates a fast hash of the content of a file, which is
+     * the CRC-64/XZ checksum of its bytes.
+     *
+     * @param content the content of the file or {@code null} if it can not be read.
+     * @return the content hash or {@code null} if the file can not be read.
+     */
+    private static Long getContentHash(byte[] content) {
+        Long result = null;
+        if (content != null) {
+            long checksum = -1L;
+            for (byte value : content) {
+                checksum = CRC64_TABLE[(int) (checksum ^ value) & BYTE_MASK]
+                        ^ checksum >>> Byte.SIZE;
+            }
+            result = ~checksum;
+        }
+        return result;
+    }
+
+    /**
+     * Creates the lookup table of the CRC-64 checksum of each byte value.
+     *
+     * @return the lookup table.
+     */
+    private static long[] createCrc64Table() {
+        final long[] table = new long[BYTE_MASK + 1];
+        for (int value = 0; value < table.length; value++) {
+            long checksum = value;
+            for (int bit = 0; bit < Byte.SIZE; bit++) {
+                if ((checksum & 1) == 0) {
+                    checksum >>>= 1;
+                }
+                else {
+                    checksum = checksum >>> 1 ^ CRC64_POLYNOMIAL;
+                }
+            }
+            table[value] = checksum;
+        }
+        return table;
     }
 
     /**
@@ -364,6 +1079,7 @@ public final class PropertyCacheFile {
     private void fillCacheWithExternalResources(Set<ExternalResource> externalResources) {
         externalResources
             .forEach(resource -> details.setProperty(resource.location, resource.contentHashSum));
+        cacheDirectoryDigest = null;
     }
 
     /**
@@ -51,6 +51,14 @@ import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
  * Simple SARIF logger.
  * SARIF stands for the static analysis results interchange format.
  * See <a href="https://sarifweb.azurewebsites.net/">reference</a>
+ *
+ * <p>
+ * The report is written when the audit is finished. If streaming is enabled,
+ * each result is written as soon as it is reported instead, and the rules,
+ * which are known only when the audit is finished, are written after
+ * the results. So the memory used by the logger does not grow with
+ * the number of results.
+ * </p>
  */
 public final class SarifLogger extends AbstractAutomaticBean implements AuditListener {
 
@@ -124,7 +132,7 @@ public final class SarifLogger extends AbstractAutomaticBean implements AuditLis
     /** Close output stream in auditFinished. */
     private final boolean closeStream;
 
-    /** The results. */
+    /** The results, if they are not streamed. */
     private final List<String> results = new ArrayList<>();
 
     /** Map of all available module metadata by fully qualified name. */
@@ -136,6 +144,9 @@ public final class SarifLogger extends AbstractAutomaticBean implements AuditLis
     /** Content for the entire report. */
     private final String report;
 
+    /** Content for the entire report with the results before the rules. */
+    private final String streamingReport;
+
     /** Content for result representing an error with source line and column. */
     private final String resultLineColumn;
 
@@ -160,6 +171,15 @@ public final class SarifLogger extends AbstractAutomaticBean implements AuditLis
     /** Content for message with id. */
     private final String messageWithId;
 
+    /** Whether the results are written as soon as they are reported. */
+    private boolean streaming;
+
+    /** Whether the content for the report before the results is written. */
+    private boolean headerWritten;
+
+    /** Whether a result is written. */
+    private boolean resultWritten;
+
     /**
      * Creates a new {@code SarifLogger} instance.
      *
@@ -195,6 +215,8 @@ public final class SarifLogger extends AbstractAutomaticBean implements AuditLis
         closeStream = outputStreamOptions == OutputStreamOptions.CLOSE;
         loadModuleMetadata();
         report = readResource("/com/puppycrawl/tools/checkstyle/sarif/SarifReport.template");
+        streamingReport = readResource(
+            "/com/puppycrawl/tools/checkstyle/sarif/SarifStreamingReport.template");
         resultLineColumn =
             readResource("/com/puppycrawl/tools/checkstyle/sarif/ResultLineColumn.template");
         resultLineOnly =
@@ -223,6 +245,17 @@ public final class SarifLogger extends AbstractAutomaticBean implements AuditLis
         }
     }
 
+    /**
+     * Sets whether the results are written as soon as they are reported, so they
+     * are not held in memory until the audit is finished. The results are written
+     * before the rules then, as the rules are known only when the audit is finished.
+     *
+     * @param streaming whether the results are written as soon as they are reported
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     @Override
     protected void finishLocalSetup() {
         // No code by default
@@ -230,15 +263,27 @@ public final class SarifLogger extends AbstractAutomaticBean implements AuditLis
 
     @Override
     public void auditStarted(AuditEvent event) {
-        // No code by default
+        if (streaming) {
+            writeHeader();
+        }
     }
 
     @Override
     public void auditFinished(AuditEvent event) {
-        String rendered = replaceVersionString(report);
-        rendered = rendered
-                .replace(RESULTS_PLACEHOLDER, String.join(COMMA_LINE_SEPARATOR, results))
-                .replace(RULES_PLACEHOLDER, String.join(COMMA_LINE_SEPARATOR, generateRules()));
+        final String rules = String.join(COMMA_LINE_SEPARATOR, generateRules());
+        final String rendered;
+        if (streaming) {
+            writeHeader();
+            final String reportFooter = streamingReport.substring(
+                streamingReport.indexOf(RESULTS_PLACEHOLDER) + RESULTS_PLACEHOLDER.length());
+            rendered = replaceVersionString(reportFooter)
+                    .replace(RULES_PLACEHOLDER, rules);
+        }
+        else {
+            rendered = replaceVersionString(report)
+                    .replace(RESULTS_PLACEHOLDER, String.join(COMMA_LINE_SEPARATOR, results))
+                    .replace(RULES_PLACEHOLDER, rules);
+        }
         writer.print(rendered);
         if (closeStream) {
             writer.close();
@@ -248,6 +293,38 @@ public final class SarifLogger extends AbstractAutomaticBean implements AuditLis
         }
     }
 
+    /**
+     * Writes the content for the report before the results, unless it is already written.
+     */
+    private void writeHeader() {
+        if (!headerWritten) {
+            writer.print(streamingReport.substring(0,
+                streamingReport.indexOf(RESULTS_PLACEHOLDER)));
+            headerWritten = true;
+        }
+    }
+
+    /**
+     * Writes a result to the report, after the content before the results
+     * or after the previous result, if the results are streamed.
+     * Otherwise, keeps the result until the audit is finished.
+     *
+     * @param result the content for the result
+     */
+    private void writeResult(String result) {
+        if (streaming) {
+            writeHeader();
+            if (resultWritten) {
+                writer.print(COMMA_LINE_SEPARATOR);
+            }
+            writer.print(result);
+            resultWritten = true;
+        }
+        else {
+            results.add(result);
+        }
+    }
+
     /**
      * Generates rules from cached rule metadata.
      *
@@ -347,7 +424,7 @@ public final class SarifLogger extends AbstractAutomaticBean implements AuditLis
         final RuleKey ruleKey = cacheRuleMetadata(event);
         final String message = generateMessage(ruleKey, event);
         if (event.getColumn() > 0) {
-            results.add(fillTemplate(resultLineColumn, Map.of(
+            writeResult(fillTemplate(resultLineColumn, Map.of(
                 SEVERITY_LEVEL_PLACEHOLDER, renderSeverityLevel(event.getSeverityLevel()),
                 URI_PLACEHOLDER, renderFileNameUri(event.getFileName()),
                 COLUMN_PLACEHOLDER, Integer.toString(event.getColumn()),
@@ -356,7 +433,7 @@ public final class SarifLogger extends AbstractAutomaticBean implements AuditLis
                 RULE_ID_PLACEHOLDER, ruleKey.toRuleId())));
         }
         else {
-            results.add(fillTemplate(resultLineOnly, Map.of(
+            writeResult(fillTemplate(resultLineOnly, Map.of(
                 SEVERITY_LEVEL_PLACEHOLDER, renderSeverityLevel(event.getSeverityLevel()),
                 URI_PLACEHOLDER, renderFileNameUri(event.getFileName()),
                 LINE_PLACEHOLDER, Integer.toString(event.getLine()),
@@ -410,12 +487,12 @@ public final class SarifLogger extends AbstractAutomaticBean implements AuditLis
         final String message = messageTextOnly
                 .replace(MESSAGE_TEXT_PLACEHOLDER, escape(stringWriter.toString()));
         if (event.getFileName() == null) {
-            results.add(fillTemplate(resultErrorOnly, Map.of(
+            writeResult(fillTemplate(resultErrorOnly, Map.of(
                 SEVERITY_LEVEL_PLACEHOLDER, renderSeverityLevel(event.getSeverityLevel()),
                 MESSAGE_PLACEHOLDER, message)));
         }
         else {
-            results.add(fillTemplate(resultFileOnly, Map.of(
+            writeResult(fillTemplate(resultFileOnly, Map.of(
                 SEVERITY_LEVEL_PLACEHOLDER, renderSeverityLevel(event.getSeverityLevel()),
                 URI_PLACEHOLDER, renderFileNameUri(event.getFileName()),
                 MESSAGE_PLACEHOLDER, message)));
@@ -61,18 +61,13 @@ public record ThreadModeSettings(int checkerThreadsNumber,
      *
      * @param name The original module name.
      * @return resolved module name.
-     * @throws IllegalArgumentException when name is Checker or TreeWalker
+     * @throws IllegalArgumentException when name is TreeWalker and multi thread mode
+     *     is requested for it
      */
     public String resolveName(String name) {
-        if (checkerThreadsNumber > 1) {
-            if (CHECKER_MODULE_NAME.equals(name)) {
-                throw new IllegalArgumentException(
-                        "Multi thread mode for Checker module is not implemented");
-            }
-            if (TREE_WALKER_MODULE_NAME.equals(name)) {
-                throw new IllegalArgumentException(
-                        "Multi thread mode for TreeWalker module is not implemented");
-            }
+        if (treeWalkerThreadsNumber > 1 && TREE_WALKER_MODULE_NAME.equals(name)) {
+            throw new IllegalArgumentException(
+                    "Multi thread mode for TreeWalker module is not implemented");
         }
 
         return name;
@@ -20,11 +20,14 @@
 package com.puppycrawl.tools.checkstyle;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -33,17 +36,22 @@ import java.util.TreeSet;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.puppycrawl.tools.checkstyle.JavadocDetailNodeParser.ParseStatus;
 import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
 import com.puppycrawl.tools.checkstyle.api.AbstractFileSetCheck;
 import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
 import com.puppycrawl.tools.checkstyle.api.Configuration;
 import com.puppycrawl.tools.checkstyle.api.Context;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.DetailNode;
 import com.puppycrawl.tools.checkstyle.api.ExternalResourceHolder;
 import com.puppycrawl.tools.checkstyle.api.FileContents;
 import com.puppycrawl.tools.checkstyle.api.FileText;
 import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 import com.puppycrawl.tools.checkstyle.api.Violation;
+import com.puppycrawl.tools.checkstyle.checks.javadoc.AbstractJavadocCheck;
+import com.puppycrawl.tools.checkstyle.utils.JavadocUtil;
 import com.puppycrawl.tools.checkstyle.utils.TokenUtil;
 
 /**
@@ -57,6 +65,26 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
     /** Message to use when an exception occurs and should be printed as a violation. */
     public static final String PARSE_EXCEPTION_MSG = "parse.exception";
 
+    /**
+     * The token types of the nodes created when a file is split into tokens
+     * without being parsed.
+     */
+    private static final BitSet TOKEN_STREAM_TYPES = TokenUtil.asBitSet(
+        TokenTypes.NUM_INT,
+        TokenTypes.NUM_LONG,
+        TokenTypes.NUM_FLOAT,
+        TokenTypes.NUM_DOUBLE,
+        TokenTypes.CHAR_LITERAL,
+        TokenTypes.STRING_LITERAL,
+        TokenTypes.TEXT_BLOCK_LITERAL_BEGIN,
+        TokenTypes.TEXT_BLOCK_CONTENT,
+        TokenTypes.TEXT_BLOCK_LITERAL_END,
+        TokenTypes.SINGLE_LINE_COMMENT,
+        TokenTypes.BLOCK_COMMENT_BEGIN,
+        TokenTypes.BLOCK_COMMENT_END,
+        TokenTypes.COMMENT_CONTENT
+    );
+
     /** Maps from token name to ordinary checks. */
     private final Map<Integer, Set<AbstractCheck>> tokenToOrdinaryChecks =
         new HashMap<>();
@@ -71,12 +99,84 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
     /** Registered comment checks. */
     private final Set<AbstractCheck> commentChecks = createNewCheckSortedSet();
 
+    /**
+     * Javadoc checks, whose javadoc comments are parsed and walked once by this
+     * TreeWalker for all of them. They are comment checks as well.
+     */
+    private final Set<AbstractJavadocCheck> javadocChecks = createNewCheckSortedSet();
+
+    /** The parser of javadoc comments for the javadoc checks. */
+    private final JavadocDetailNodeParser javadocParser = new JavadocDetailNodeParser();
+
     /** The ast filters. */
     private final Set<TreeWalkerFilter> filters = new HashSet<>();
 
+    /**
+     * Maps from check configuration to the check instance, which can be shared
+     * with the copies of this TreeWalker used by other Checker threads.
+     */
+    private final Map<Configuration, AbstractCheck> sharedChecks = new HashMap<>();
+
+    /** Checks which are shared by another TreeWalker and are not owned by this one. */
+    private final Set<AbstractCheck> borrowedChecks = new HashSet<>();
+
+    /**
+     * The lock held while a file is processed with {@link GlobalStatefulCheck globally
+     * stateful} checks, shared by the copies of this TreeWalker which share these checks.
+     */
+    private Object globalStatefulChecksLock = new Object();
+
     /** The sorted set of violations. */
     private final SortedSet<Violation> violations = new TreeSet<>();
 
+    /**
+     * Ordinary checks indexed by token id, in the order of {@link #tokenToOrdinaryChecks}.
+     * Built from the map before the first file is walked.
+     */
+    private AbstractCheck[][] ordinaryChecksByToken;
+
+    /**
+     * Comment checks indexed by token id, in the order of {@link #tokenToCommentChecks}.
+     * Built from the map before the first file is walked.
+     */
+    private AbstractCheck[][] commentChecksByToken;
+
+    /**
+     * Javadoc checks indexed by javadoc token id, in the order of {@link #javadocChecks}.
+     * Built before the first file is walked.
+     */
+    private AbstractJavadocCheck[][] javadocChecksByToken;
+
+    /**
+     * Javadoc checks which accept javadoc comments with non-tight HTML,
+     * indexed by javadoc token id. Built before the first file is walked.
+     */
+    private AbstractJavadocCheck[][] nonTightJavadocChecksByToken;
+
+    /**
+     * Whether no javadoc check processes javadoc comments without tags and HTML,
+     * so their parsing is skipped.
+     */
+    private boolean plainJavadocSkipped;
+
+    /**
+     * Whether some checks are globally stateful, so files are processed one
+     * at a time by this TreeWalker and its copies. Set before the first file is walked.
+     */
+    private boolean globalStatefulChecksPresent;
+
+    /** The token types the ordinary checks are registered for. */
+    private long[] ordinaryTokenTypes;
+
+    /** The token types the comment checks are registered for. */
+    private long[] commentTokenTypes;
+
+    /** Whether all tokens of the comment checks are comment tokens. */
+    private boolean commentTokensOnly;
+
+    /** Whether the files are split into tokens without being parsed. */
+    private boolean tokenStreamOnly;
+
     /** Context of child components. */
     private Context childContext;
 
@@ -89,6 +189,12 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
     /** Specify severity Level to log Java parsing exceptions when they are skipped. */
     private SeverityLevel javaParseExceptionSeverity = SeverityLevel.ERROR;
 
+    /**
+     * Control whether to split files into tokens without parsing them
+     * when all checks support it.
+     */
+    private boolean skipJavaParse;
+
     /**
      * Creates a new {@code TreeWalker} instance.
      */
@@ -127,6 +233,33 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
         this.javaParseExceptionSeverity = javaParseExceptionSeverity;
     }
 
+    /**
+     * Setter to control whether to split files into tokens without parsing them
+     * when all checks support it. Such files are not parsed, so Java parsing
+     * exceptions are neither thrown nor logged for them.
+     *
+     *  @param skipJavaParse whether to split files into tokens without parsing them.
+     *  @since 14.1.0
+     */
+    public void setSkipJavaParse(boolean skipJavaParse) {
+        this.skipJavaParse = skipJavaParse;
+    }
+
+    /**
+     * Makes this TreeWalker reuse the {@link StatelessCheck stateless} and
+     * {@link GlobalStatefulCheck globally stateful} checks of another TreeWalker
+     * configured with the same configuration, instead of creating its own instances.
+     * Files are processed with globally stateful checks by one TreeWalker at a time.
+     * Must be called before this TreeWalker is configured.
+     *
+     * @param treeWalker the TreeWalker to share checks with.
+     */
+    /* package */ void shareChecks(TreeWalker treeWalker) {
+        sharedChecks.putAll(treeWalker.sharedChecks);
+        borrowedChecks.addAll(treeWalker.sharedChecks.values());
+        globalStatefulChecksLock = treeWalker.globalStatefulChecksLock;
+    }
+
     @Override
     public void finishLocalSetup() {
         final DefaultContext checkContext = new DefaultContext();
@@ -142,22 +275,32 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
     public void setupChild(Configuration childConf)
             throws CheckstyleException {
         final String name = childConf.getName();
+        final AbstractCheck sharedCheck = sharedChecks.get(childConf);
         final Object module;
 
-        try {
-            module = moduleFactory.createModule(name);
-            if (module instanceof AbstractAutomaticBean bean) {
-                bean.contextualize(childContext);
-                bean.configure(childConf);
+        if (sharedCheck == null) {
+            try {
+                module = moduleFactory.createModule(name);
+                if (module instanceof AbstractAutomaticBean bean) {
+                    bean.contextualize(childContext);
+                    bean.configure(childConf);
+                }
+            }
+            catch (final CheckstyleException exc) {
+                throw new CheckstyleException("cannot initialize module " + name, exc);
             }
         }
-        catch (final CheckstyleException exc) {
-            throw new CheckstyleException("cannot initialize module " + name, exc);
+        else {
+            module = sharedCheck;
         }
         switch (module) {
+            case AbstractCheck check when check == sharedCheck -> registerCheck(check);
             case AbstractCheck check -> {
                 check.init();
                 registerCheck(check);
+                if (isShareable(check)) {
+                    sharedChecks.put(childConf, check);
+                }
             }
             case TreeWalkerFilter filter -> filters.add(filter);
             case null, default -> throw new CheckstyleException(
@@ -169,55 +312,142 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
 
     /**
      * {@inheritDoc} Processes the file.
-     *
-     * @noinspection ProhibitedExceptionThrown
-     * @noinspectionreason ProhibitedExceptionThrown - there is no other way to obey
-     *     skipFileOnJavaParseException field
      */
     @Override
     protected void processFiltered(File file, FileText fileText) throws CheckstyleException {
         // check if already checked and passed the file
         if (!ordinaryChecks.isEmpty() || !commentChecks.isEmpty()) {
-            final FileContents contents = getFileContents();
-            DetailAST rootAST = null;
-            // whether skip the procedure after parsing Java files.
-            boolean skip = false;
-            try {
-                rootAST = JavaParser.parse(contents);
+            if (ordinaryChecksByToken == null) {
+                createDispatchTables();
             }
-            // -@cs[IllegalCatch] There is no other way to obey skipFileOnJavaParseException field
-            catch (Exception exc) {
-                if (!skipFileOnJavaParseException) {
-                    throw exc;
+            if (globalStatefulChecksPresent) {
+                // globally stateful checks are shared by the TreeWalkers of all Checker threads
+                synchronized (globalStatefulChecksLock) {
+                    processChecks(file, fileText);
                 }
-                skip = true;
-                violations.add(new Violation(1, Definitions.CHECKSTYLE_BUNDLE, PARSE_EXCEPTION_MSG,
-                            new Object[] {exc.getMessage()}, javaParseExceptionSeverity, null,
-                            getClass(), null));
-                addViolations(violations);
             }
+            else {
+                processChecks(file, fileText);
+            }
+            violations.clear();
+        }
+    }
 
-            if (!skip) {
-                if (!ordinaryChecks.isEmpty()) {
-                    walk(rootAST, contents, AstState.ORDINARY);
-                }
-                if (!commentChecks.isEmpty()) {
-                    final DetailAST astWithComments = JavaParser.appendHiddenCommentNodes(rootAST);
-                    walk(astWithComments, contents, AstState.WITH_COMMENTS);
-                }
-                if (filters.isEmpty()) {
-                    addViolations(violations);
+    /**
+     * Processes a file with the checks.
+     *
+     * @param file the file to be processed
+     * @param fileText the contents of the file.
+     * @throws CheckstyleException if error condition within Checkstyle occurs.
+     */
+    private void processChecks(File file, FileText fileText) throws CheckstyleException {
+        if (tokenStreamOnly) {
+            processTokens(getFileContents());
+        }
+        else {
+            processAst(file, fileText);
+        }
+    }
+
+    /**
+     * Checks whether the files processed by this module are parsed, that is whether
+     * there are checks and they do not process the tokens of files without the AST.
+     *
+     * @return {@code true} if the AST of the files is required
+     */
+    /* package */ boolean isAstRequired() {
+        boolean result = false;
+        if (!ordinaryChecks.isEmpty() || !commentChecks.isEmpty()) {
+            if (ordinaryChecksByToken == null) {
+                createDispatchTables();
+            }
+            result = !tokenStreamOnly;
+        }
+        return result;
+    }
+
+    /**
+     * Parses the file and walks its AST.
+     *
+     * @param file the file to be processed
+     * @param fileText the contents of the file.
+     * @throws CheckstyleException if error condition within Checkstyle occurs.
+     * @noinspection ProhibitedExceptionThrown
+     * @noinspectionreason ProhibitedExceptionThrown - there is no other way to obey
+     *     skipFileOnJavaParseException field
+     */
+    private void processAst(File file, FileText fileText) throws CheckstyleException {
+        final JavaParseCache parseCache = JavaParseCache.get(fileText, getFileContents());
+        final FileContents contents = parseCache.getContents();
+        DetailAST rootAST = null;
+        // whether skip the procedure after parsing Java files.
+        boolean skip = false;
+        try {
+            rootAST = parseCache.getAst();
+        }
+        // -@cs[IllegalCatch] There is no other way to obey skipFileOnJavaParseException field
+        catch (Exception exc) {
+            if (!skipFileOnJavaParseException) {
+                throw exc;
+            }
+            skip = true;
+            violations.add(new Violation(1, Definitions.CHECKSTYLE_BUNDLE, PARSE_EXCEPTION_MSG,
+                        new Object[] {exc.getMessage()}, javaParseExceptionSeverity, null,
+                        getClass(), null));
+            addViolations(violations);
+        }
+
+        if (!skip) {
+            if (!ordinaryChecks.isEmpty()) {
+                walk(rootAST, contents, AstState.ORDINARY);
+            }
+            if (!commentChecks.isEmpty()) {
+                rootAST = parseCache.getAstWithComments();
+                if (commentTokensOnly) {
+                    walkCommentNodes(rootAST, parseCache.getCommentNodes(), contents);
                 }
                 else {
-                    final SortedSet<Violation> filteredViolations =
-                            getFilteredViolations(file.getAbsolutePath(), contents, rootAST);
-                    addViolations(filteredViolations);
+                    walk(rootAST, contents, AstState.WITH_COMMENTS);
                 }
             }
-            violations.clear();
+            if (filters.isEmpty()) {
+                addViolations(violations);
+            }
+            else {
+                final SortedSet<Violation> filteredViolations =
+                        getFilteredViolations(file.getAbsolutePath(), contents, rootAST);
+                addViolations(filteredViolations);
+            }
         }
     }
 
+    /**
+     * Splits the file into tokens without parsing it, and lets the checks visit
+     * the nodes of the tokens. Comment nodes are visited by the comment checks only.
+     *
+     * @param contents the contents of the file.
+     */
+    private void processTokens(FileContents contents) {
+        final List<DetailAST> tokens = JavaParser.parseTokens(contents);
+        if (!ordinaryChecks.isEmpty()) {
+            notifyBegin(null, contents, AstState.ORDINARY);
+            for (DetailAST token : tokens) {
+                if (!TokenUtil.isCommentType(token.getType())) {
+                    processSubtree(token, AstState.ORDINARY);
+                }
+            }
+            notifyEnd(null, AstState.ORDINARY);
+        }
+        if (!commentChecks.isEmpty()) {
+            notifyBegin(null, contents, AstState.WITH_COMMENTS);
+            for (DetailAST token : tokens) {
+                processSubtree(token, AstState.WITH_COMMENTS);
+            }
+            notifyEnd(null, AstState.WITH_COMMENTS);
+        }
+        addViolations(violations);
+    }
+
     /**
      * Returns filtered set of {@link Violation}.
      *
@@ -282,6 +512,8 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
         else {
             ordinaryChecks.add(check);
         }
+        ordinaryChecksByToken = null;
+        commentChecksByToken = null;
     }
 
     /**
@@ -293,8 +525,17 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
      */
     private void registerCheck(int tokenId, AbstractCheck check) throws CheckstyleException {
         if (check.isCommentNodesRequired()) {
-            tokenToCommentChecks.computeIfAbsent(tokenId, empty -> createNewCheckSortedSet())
-                    .add(check);
+            final Set<AbstractCheck> checks = tokenToCommentChecks
+                    .computeIfAbsent(tokenId, empty -> createNewCheckSortedSet());
+            if (tokenId == TokenTypes.BLOCK_COMMENT_BEGIN
+                    && check instanceof AbstractJavadocCheck javadocCheck
+                    && javadocCheck.isSharedJavadocWalkSupported()) {
+                // the block comments are still visited, see processJavadoc
+                javadocChecks.add(javadocCheck);
+            }
+            else {
+                checks.add(check);
+            }
         }
         else if (TokenUtil.isCommentType(tokenId)) {
             final String message = String.format(Locale.ROOT, "Check '%s' waits for comment type "
@@ -323,6 +564,114 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
         notifyEnd(ast, astState);
     }
 
+    /**
+     * Creates the arrays of checks indexed by token id from the maps of registered
+     * checks, so the checks of a node are found without boxing its token id.
+     */
+    private void createDispatchTables() {
+        ordinaryChecksByToken = createDispatchTable(tokenToOrdinaryChecks);
+        commentChecksByToken = createDispatchTable(tokenToCommentChecks);
+        ordinaryTokenTypes = createTokenTypes(tokenToOrdinaryChecks);
+        commentTokenTypes = createTokenTypes(tokenToCommentChecks);
+        javadocChecksByToken = createJavadocDispatchTable(javadocChecks);
+        nonTightJavadocChecksByToken = createJavadocDispatchTable(javadocChecks.stream()
+                .filter(AbstractJavadocCheck::acceptJavadocWithNonTightHtml)
+                .toList());
+        plainJavadocSkipped = javadocChecks.stream()
+                .noneMatch(check -> JavadocCheckAccessor.getInstance()
+                        .isPlainJavadocProcessed(check));
+        commentTokensOnly = tokenToCommentChecks.keySet().stream()
+                .allMatch(TokenUtil::isCommentType);
+        globalStatefulChecksPresent = Stream.concat(ordinaryChecks.stream(),
+                commentChecks.stream())
+            .anyMatch(check -> check.getClass().isAnnotationPresent(GlobalStatefulCheck.class));
+        tokenStreamOnly = skipJavaParse && filters.isEmpty()
+                && Stream.concat(ordinaryChecks.stream(), commentChecks.stream())
+                    .allMatch(AbstractCheck::isTokenStreamSupported)
+                && Stream.concat(tokenToOrdinaryChecks.keySet().stream(),
+                        tokenToCommentChecks.keySet().stream())
+                    .allMatch(TOKEN_STREAM_TYPES::get);
+    }
+
+    /**
+     * Creates an array of checks indexed by token id. The checks of a token keep
+     * the order of the given sets, and tokens without checks get {@code null}.
+     *
+     * @param tokenToChecks the map from token id to checks.
+     * @return the array of checks indexed by token id.
+     */
+    private static AbstractCheck[][] createDispatchTable(
+            Map<Integer, Set<AbstractCheck>> tokenToChecks) {
+        final int length = tokenToChecks.keySet().stream()
+                .mapToInt(Integer::intValue)
+                .max()
+                .orElse(-1) + 1;
+        final AbstractCheck[][] result = new AbstractCheck[length][];
+        for (Map.Entry<Integer, Set<AbstractCheck>> entry : tokenToChecks.entrySet()) {
+            result[entry.getKey()] = entry.getValue().toArray(new AbstractCheck[0]);
+        }
+        return result;
+    }
+
+    /**
+     * Creates an array of javadoc checks indexed by javadoc token id. The checks
+     * of a token keep the order of the given checks, and tokens without checks
+     * get {@code null}.
+     *
+     * @param checks the javadoc checks.
+     * @return the array of javadoc checks indexed by javadoc token id.
+     */
+    private static AbstractJavadocCheck[][] createJavadocDispatchTable(
+            Collection<AbstractJavadocCheck> checks) {
+        final Map<Integer, List<AbstractJavadocCheck>> tokenToChecks = new HashMap<>();
+        for (AbstractJavadocCheck check : checks) {
+            for (int tokenId : JavadocCheckAccessor.getInstance().getJavadocTokens(check)) {
+                tokenToChecks.computeIfAbsent(tokenId, empty -> new ArrayList<>()).add(check);
+            }
+        }
+        final int length = tokenToChecks.keySet().stream()
+                .mapToInt(Integer::intValue)
+                .max()
+                .orElse(-1) + 1;
+        final AbstractJavadocCheck[][] result = new AbstractJavadocCheck[length][];
+        for (Map.Entry<Integer, List<AbstractJavadocCheck>> entry : tokenToChecks.entrySet()) {
+            result[entry.getKey()] = entry.getValue().toArray(new AbstractJavadocCheck[0]);
+        }
+        return result;
+    }
+
+    /**
+     * Initiates the walk of an AST with comment nodes, which visits the comment
+     * nodes only. The comment checks get the same notifications in the same order
+     * as if the whole AST was walked, if they visit comment nodes only.
+     *
+     * @param ast the root AST
+     * @param commentNodes the comment nodes in the order they are visited.
+     * @param contents the contents of the file the AST was generated from.
+     */
+    private void walkCommentNodes(DetailAST ast, List<DetailAST> commentNodes,
+            FileContents contents) {
+        notifyBegin(ast, contents, AstState.WITH_COMMENTS);
+        for (DetailAST commentNode : commentNodes) {
+            processSubtree(commentNode, AstState.WITH_COMMENTS);
+        }
+        notifyEnd(ast, AstState.WITH_COMMENTS);
+    }
+
+    /**
+     * Creates the set of token types which have registered checks.
+     *
+     * @param tokenToChecks the map from token id to checks.
+     * @return the set of token types as a bit mask.
+     */
+    private static long[] createTokenTypes(Map<Integer, Set<AbstractCheck>> tokenToChecks) {
+        final BitSet result = new BitSet();
+        for (int tokenId : tokenToChecks.keySet()) {
+            result.set(tokenId);
+        }
+        return result.toLongArray();
+    }
+
     /**
      * Notify checks that we are about to begin walking a tree.
      *
@@ -377,15 +726,101 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
      * @param astState state of AST.
      */
     private void notifyVisit(DetailAST ast, AstState astState) {
-        final Collection<AbstractCheck> visitors = getListOfChecks(ast, astState);
+        final AbstractCheck[] visitors = getListOfChecks(ast, astState);
 
         if (visitors != null) {
             for (AbstractCheck check : visitors) {
                 check.visitToken(ast);
             }
+            if (astState == AstState.WITH_COMMENTS
+                    && ast.getType() == TokenTypes.BLOCK_COMMENT_BEGIN
+                    && !javadocChecks.isEmpty()) {
+                processJavadoc(ast);
+            }
+        }
+    }
+
+    /**
+     * Parses a javadoc comment once and walks its tree once for all javadoc checks,
+     * calling the checks interested in each node of the tree. The comment is not
+     * parsed again if a check which walks the javadoc comments itself parsed it.
+     * A javadoc comment without tags and HTML is not parsed at all if no check
+     * would process it.
+     *
+     * @param blockCommentNode the block comment node, which might be a javadoc comment.
+     */
+    private void processJavadoc(DetailAST blockCommentNode) {
+        if (JavadocUtil.isJavadocComment(blockCommentNode)
+                && !(plainJavadocSkipped && JavadocUtil.isPlainJavadocComment(blockCommentNode))) {
+            final JavadocCheckAccessor accessor = JavadocCheckAccessor.getInstance();
+            final ParseStatus status =
+                    accessor.parseJavadocComment(blockCommentNode, javadocParser);
+            for (AbstractJavadocCheck check : javadocChecks) {
+                accessor.beginJavadocComment(check, blockCommentNode, status);
+            }
+            if (status.getParseErrorMessage() == null) {
+                final AbstractJavadocCheck[][] checksByToken;
+                if (status.isNonTight()) {
+                    checksByToken = nonTightJavadocChecksByToken;
+                }
+                else {
+                    checksByToken = javadocChecksByToken;
+                }
+                walkJavadoc(status.getTree(), checksByToken);
+            }
+            for (AbstractJavadocCheck check : javadocChecks) {
+                accessor.finishJavadocComment(check, status);
+            }
         }
     }
 
+    /**
+     * Walks the tree of a javadoc comment, calling the checks interested in each node.
+     *
+     * @param root the root of the tree.
+     * @param checksByToken the javadoc checks indexed by javadoc token id.
+     */
+    private static void walkJavadoc(DetailNode root, AbstractJavadocCheck[][] checksByToken) {
+        DetailNode curNode = root;
+        while (curNode != null) {
+            final AbstractJavadocCheck[] visitors = getJavadocChecks(curNode, checksByToken);
+            if (visitors != null) {
+                for (AbstractJavadocCheck check : visitors) {
+                    check.visitJavadocToken(curNode);
+                }
+            }
+            DetailNode toVisit = curNode.getFirstChild();
+            while (curNode != null && toVisit == null) {
+                final AbstractJavadocCheck[] leavers = getJavadocChecks(curNode, checksByToken);
+                if (leavers != null) {
+                    for (AbstractJavadocCheck check : leavers) {
+                        check.leaveJavadocToken(curNode);
+                    }
+                }
+                toVisit = curNode.getNextSibling();
+                curNode = curNode.getParent();
+            }
+            curNode = toVisit;
+        }
+    }
+
+    /**
+     * Gets the javadoc checks interested in a node of a javadoc tree.
+     *
+     * @param node the node of the javadoc tree.
+     * @param checksByToken the javadoc checks indexed by javadoc token id.
+     * @return the javadoc checks, or {@code null} if no check is interested in the node
+     */
+    private static AbstractJavadocCheck[] getJavadocChecks(DetailNode node,
+            AbstractJavadocCheck[][] checksByToken) {
+        final int tokenId = node.getType();
+        AbstractJavadocCheck[] result = null;
+        if (tokenId < checksByToken.length) {
+            result = checksByToken[tokenId];
+        }
+        return result;
+    }
+
     /**
      * Notify checks that leaving a node.
      *
@@ -394,7 +829,7 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
      * @param astState state of AST.
      */
     private void notifyLeave(DetailAST ast, AstState astState) {
-        final Collection<AbstractCheck> visitors = getListOfChecks(ast, astState);
+        final AbstractCheck[] visitors = getListOfChecks(ast, astState);
 
         if (visitors != null) {
             for (AbstractCheck check : visitors) {
@@ -410,25 +845,43 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
      *            the node to notify for
      * @param astState
      *            state of AST.
-     * @return list of visitors
+     * @return list of visitors, or {@code null} if no check is interested in the node
      */
-    private Collection<AbstractCheck> getListOfChecks(DetailAST ast, AstState astState) {
-        final Collection<AbstractCheck> visitors;
+    private AbstractCheck[] getListOfChecks(DetailAST ast, AstState astState) {
+        final AbstractCheck[][] checksByToken;
         final int tokenId = ast.getType();
 
         if (astState == AstState.WITH_COMMENTS) {
-            visitors = tokenToCommentChecks.get(tokenId);
+            checksByToken = commentChecksByToken;
         }
         else {
-            visitors = tokenToOrdinaryChecks.get(tokenId);
+            checksByToken = ordinaryChecksByToken;
+        }
+
+        AbstractCheck[] visitors = null;
+        if (tokenId < checksByToken.length) {
+            visitors = checksByToken[tokenId];
         }
         return visitors;
     }
 
+    /**
+     * Checks whether a check can be shared by the TreeWalkers of all Checker threads.
+     *
+     * @param check the check.
+     * @return {@code true} if there must be exactly one instance of the check.
+     */
+    private static boolean isShareable(AbstractCheck check) {
+        final Class<?> checkClass = check.getClass();
+        return checkClass.isAnnotationPresent(StatelessCheck.class)
+                || checkClass.isAnnotationPresent(GlobalStatefulCheck.class);
+    }
+
     @Override
     public void destroy() {
-        ordinaryChecks.forEach(AbstractCheck::destroy);
-        commentChecks.forEach(AbstractCheck::destroy);
+        Stream.concat(ordinaryChecks.stream(), commentChecks.stream())
+                .filter(check -> !borrowedChecks.contains(check))
+                .forEach(AbstractCheck::destroy);
         super.destroy();
     }
 
@@ -446,16 +899,29 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
 
     /**
      * Processes a node calling interested checks at each node.
-     * Uses iterative algorithm.
+     * Uses iterative algorithm. The children of a node are skipped
+     * if no check is interested in any node of its branch.
      *
      * @param root the root of tree for process
      * @param astState state of AST.
      */
     private void processIter(DetailAST root, AstState astState) {
+        final long[] tokenTypes;
+        if (astState == AstState.WITH_COMMENTS) {
+            tokenTypes = commentTokenTypes;
+        }
+        else {
+            tokenTypes = ordinaryTokenTypes;
+        }
+
         DetailAST curNode = root;
         while (curNode != null) {
             notifyVisit(curNode, astState);
             DetailAST toVisit = curNode.getFirstChild();
+            if (toVisit != null
+                    && !((DetailAstImpl) curNode).branchContainsAny(tokenTypes)) {
+                toVisit = null;
+            }
             while (curNode != null && toVisit == null) {
                 notifyLeave(curNode, astState);
                 toVisit = curNode.getNextSibling();
@@ -465,15 +931,42 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
         }
     }
 
+    /**
+     * Processes a node and its children, but not its next siblings,
+     * calling interested checks at each node. Uses iterative algorithm.
+     *
+     * @param root the root of subtree for process
+     * @param astState state of AST.
+     */
+    private void processSubtree(DetailAST root, AstState astState) {
+        DetailAST curNode = root;
+        while (curNode != null) {
+            notifyVisit(curNode, astState);
+            DetailAST toVisit = curNode.getFirstChild();
+            while (curNode != null && toVisit == null) {
+                notifyLeave(curNode, astState);
+                if (curNode == root) {
+                    curNode = null;
+                }
+                else {
+                    toVisit = curNode.getNextSibling();
+                    curNode = curNode.getParent();
+                }
+            }
+            curNode = toVisit;
+        }
+    }
+
     /**
      * Creates a new {@link SortedSet} with a deterministic order based on the
      * Check's name before the default ordering.
      *
+     * @param <T> the type of the checks
      * @return The new {@code SortedSet}.
      */
-    private static SortedSet<AbstractCheck> createNewCheckSortedSet() {
+    private static <T extends AbstractCheck> SortedSet<T> createNewCheckSortedSet() {
         return new TreeSet<>(
-                Comparator.<AbstractCheck, String>comparing(check -> check.getClass().getName())
+                Comparator.<T, String>comparing(check -> check.getClass().getName())
                         .thenComparing(AbstractCheck::getId,
                                 Comparator.nullsLast(Comparator.naturalOrder()))
                         .thenComparingInt(AbstractCheck::hashCode));
@@ -630,6 +630,8 @@ public class CheckstyleAntTask extends Task {
         private File toFile;
         /** Whether or not to write to the named file. */
         private boolean useFile = true;
+        /** Whether the results of a sarif formatter are written as soon as they are reported. */
+        private boolean streaming;
 
         /**
          * Creates a new {@code Formatter} instance.
@@ -665,6 +667,16 @@ public class CheckstyleAntTask extends Task {
             useFile = use;
         }
 
+        /**
+         * Sets whether the results of a sarif formatter are written as soon as
+         * they are reported, so they are not held in memory until the audit is finished.
+         *
+         * @param streaming whether the results are written as soon as they are reported.
+         */
+        public void setStreaming(boolean streaming) {
+            this.streaming = streaming;
+        }
+
         /**
          * Creates a listener for the formatter.
          *
@@ -696,7 +708,7 @@ public class CheckstyleAntTask extends Task {
          * @throws IOException if an error occurs
          */
         private AuditListener createSarifLogger(Task task) throws IOException {
-            final AuditListener sarifLogger;
+            final SarifLogger sarifLogger;
             if (toFile == null || !useFile) {
                 sarifLogger = new SarifLogger(new LogOutputStream(task, Project.MSG_INFO),
                         OutputStreamOptions.CLOSE);
@@ -705,6 +717,7 @@ public class CheckstyleAntTask extends Task {
                 sarifLogger = new SarifLogger(Files.newOutputStream(toFile.toPath()),
                         OutputStreamOptions.CLOSE);
             }
+            sarifLogger.setStreaming(streaming);
             return sarifLogger;
         }
 
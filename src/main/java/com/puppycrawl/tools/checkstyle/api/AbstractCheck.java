@@ -101,6 +101,20 @@ public abstract class AbstractCheck extends AbstractViolationReporter {
         return false;
     }
 
+    /**
+     * Whether the check can process the tokens of a file without its AST.
+     * Such a check visits only tokens which are leaves of the AST, like literals
+     * and comments, and does not use their parents or siblings. If all checks
+     * of a {@code TreeWalker} support it and its {@code skipJavaParse} property
+     * is set, the file is split into tokens but not parsed, and the root passed
+     * to {@link #beginTree(DetailAST)} and {@link #finishTree(DetailAST)} is {@code null}.
+     *
+     * @return false as a default value.
+     */
+    public boolean isTokenStreamSupported() {
+        return false;
+    }
+
     /**
      * Adds a set of tokens the check is interested in.
      *
@@ -262,7 +276,7 @@ public abstract class AbstractCheck extends AbstractViolationReporter {
         // is increased by one.
 
         final int col = 1 + CommonUtil.lengthExpandedTabs(
-                getLines()[ast.getLineNo() - 1], ast.getColumnNo(), tabWidth);
+                getLine(ast.getLineNo() - 1), ast.getColumnNo(), tabWidth);
         context.get().violations.add(
                 new Violation(
                         ast.getLineNo(),
@@ -282,7 +296,7 @@ public abstract class AbstractCheck extends AbstractViolationReporter {
     public final void log(int lineNo, int colNo, String key,
             Object... args) {
         final int col = 1 + CommonUtil.lengthExpandedTabs(
-            getLines()[lineNo - 1], colNo, tabWidth);
+            getLine(lineNo - 1), colNo, tabWidth);
         context.get().violations.add(
             new Violation(
                 lineNo,
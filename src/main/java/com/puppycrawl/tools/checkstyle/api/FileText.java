@@ -19,24 +19,17 @@
 
 package com.puppycrawl.tools.checkstyle.api;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.Reader;
-import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CodingErrorAction;
 import java.nio.charset.UnsupportedCharsetException;
 import java.nio.file.Files;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
 
@@ -52,19 +45,14 @@ import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
 public final class FileText {
 
     /**
-     * The number of characters to read in one go.
+     * The initial capacity of the array of line starts.
      */
-    private static final int READ_BUFFER_SIZE = 1024;
+    private static final int INITIAL_LINE_COUNT = 64;
 
-    /**
-     * Regular expression pattern matching all line terminators.
-     */
-    private static final Pattern LINE_TERMINATOR = Pattern.compile("\\n|\\r\\n?");
-
-    // For now, we always keep both full text and lines array.
-    // In the long run, however, the one passed at initialization might be
-    // enough, while the other could be lazily created when requested.
-    // This would save memory but cost CPU cycles.
+    // A text read from a file keeps the full text and the first position of
+    // each line. A line is cut from the full text when it is requested for
+    // the first time and kept for later requests, as many checks read
+    // the same lines again and again.
 
     /**
      * The name of the file.
@@ -80,6 +68,7 @@ public final class FileText {
 
     /**
      * The lines of the file, without terminators.
+     * A line of a text read from a file is {@code null} until it is requested.
      */
     private final String[] lines;
 
@@ -97,7 +86,8 @@ public final class FileText {
     private int[] lineBreaks;
 
     /**
-     * Copy constructor.
+     * Copy constructor. As file texts are immutable, the copy shares
+     * the text and the lines of the original.
      *
      * @param fileText to make copy of
      */
@@ -105,10 +95,8 @@ public final class FileText {
         file = fileText.file;
         charset = fileText.charset;
         fullText = fileText.fullText;
-        lines = fileText.lines.clone();
-        if (fileText.lineBreaks != null) {
-            lineBreaks = fileText.lineBreaks.clone();
-        }
+        lines = fileText.lines;
+        lineBreaks = fileText.lineBreaks;
     }
 
     /**
@@ -165,25 +153,13 @@ public final class FileText {
         }
 
         fullText = readFile(file, decoder);
-
-        // Use the BufferedReader to break down the lines as this
-        // is about 30% faster than using the
-        // LINE_TERMINATOR.split(fullText, -1) method
-        try (BufferedReader reader = new BufferedReader(new StringReader(fullText))) {
-            final List<String> textLines = new ArrayList<>(10);
-            while (true) {
-                final String line = reader.readLine();
-                if (line == null) {
-                    break;
-                }
-                textLines.add(line);
-            }
-            lines = textLines.toArray(CommonUtil.EMPTY_STRING_ARRAY);
-        }
+        lineBreaks = findLineStarts(fullText);
+        lines = new String[lineBreaks.length - 1];
     }
 
     /**
      * Reads file using specific decoder and returns all its content as a String.
+     * The bytes of the file are read at once and decoded in a single pass.
      *
      * @param inputFile File to read
      * @param decoder Charset decoder
@@ -196,19 +172,64 @@ public final class FileText {
         if (!inputFile.exists()) {
             throw new FileNotFoundException(inputFile.getPath() + " (No such file or directory)");
         }
-        final StringBuilder buf = new StringBuilder(1024);
-        final InputStream stream = Files.newInputStream(inputFile.toPath());
-        try (Reader reader = new InputStreamReader(stream, decoder)) {
-            final char[] chars = new char[READ_BUFFER_SIZE];
-            while (true) {
-                final int len = reader.read(chars);
-                if (len == -1) {
-                    break;
+        final byte[] bytes = Files.readAllBytes(inputFile.toPath());
+        return decoder.decode(ByteBuffer.wrap(bytes)).toString();
+    }
+
+    /**
+     * Finds the first position of each line of a text in a single pass.
+     * Like {@link java.io.BufferedReader#readLine()}, a line is terminated by
+     * {@code \n}, {@code \r} or {@code \r\n}, and there is no empty line after
+     * a terminator at the end of the text.
+     *
+     * @param text the text to split into lines
+     * @return the first positions of each line, followed by the length of the text
+     */
+    private static int[] findLineStarts(CharSequence text) {
+        final int length = text.length();
+        int[] lineStarts = new int[INITIAL_LINE_COUNT];
+        int lineCount = 0;
+        int lineStart = 0;
+        for (int pos = 0; pos < length; pos++) {
+            final char chr = text.charAt(pos);
+            if (chr == '\n'
+                    || chr == '\r' && (pos + 1 == length || text.charAt(pos + 1) != '\n')) {
+                if (lineCount == lineStarts.length) {
+                    lineStarts = Arrays.copyOf(lineStarts, lineCount * 2);
                 }
-                buf.append(chars, 0, len);
+                lineStarts[lineCount] = lineStart;
+                lineCount++;
+                lineStart = pos + 1;
             }
         }
-        return buf.toString();
+        final boolean isLastLineUnterminated = lineStart < length;
+        if (isLastLineUnterminated) {
+            lineCount++;
+        }
+        final int[] result = Arrays.copyOf(lineStarts, lineCount + 1);
+        if (isLastLineUnterminated) {
+            result[lineCount - 1] = lineStart;
+        }
+        result[lineCount] = length;
+        return result;
+    }
+
+    /**
+     * Finds the end of a line without its terminator in the full text.
+     *
+     * @param lineNo the number of the line, starting at zero
+     * @return the position after the last character of the line
+     */
+    private int findLineEnd(int lineNo) {
+        final int lineStart = lineBreaks[lineNo];
+        int lineEnd = lineBreaks[lineNo + 1];
+        if (lineEnd > lineStart && fullText.charAt(lineEnd - 1) == '\n') {
+            lineEnd--;
+        }
+        if (lineEnd > lineStart && fullText.charAt(lineEnd - 1) == '\r') {
+            lineEnd--;
+        }
+        return lineEnd;
     }
 
     /**
@@ -219,7 +240,12 @@ public final class FileText {
      * @return the line with the given number
      */
     public String get(final int lineNo) {
-        return lines[lineNo];
+        String line = lines[lineNo];
+        if (line == null) {
+            line = fullText.substring(lineBreaks[lineNo], findLineEnd(lineNo));
+            lines[lineNo] = line;
+        }
+        return line;
     }
 
     /**
@@ -258,7 +284,11 @@ public final class FileText {
      * @return an array of all lines of the text
      */
     public String[] toLinesArray() {
-        return lines.clone();
+        final String[] result = new String[lines.length];
+        for (int lineNo = 0; lineNo < result.length; lineNo++) {
+            result[lineNo] = get(lineNo);
+        }
+        return result;
     }
 
     /**
@@ -288,18 +318,7 @@ public final class FileText {
      */
     private int[] findLineBreaks() {
         if (lineBreaks == null) {
-            final int[] lineBreakPositions = new int[size() + 1];
-            lineBreakPositions[0] = 0;
-            int lineNo = 1;
-            final Matcher matcher = LINE_TERMINATOR.matcher(fullText);
-            while (matcher.find()) {
-                lineBreakPositions[lineNo] = matcher.end();
-                lineNo++;
-            }
-            if (lineNo < lineBreakPositions.length) {
-                lineBreakPositions[lineNo] = fullText.length();
-            }
-            lineBreaks = lineBreakPositions;
+            lineBreaks = findLineStarts(fullText);
         }
         return lineBreaks;
     }
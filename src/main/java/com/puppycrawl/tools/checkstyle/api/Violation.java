@@ -22,7 +22,9 @@ package com.puppycrawl.tools.checkstyle.api;
 import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nullable;
 
@@ -44,6 +46,10 @@ public final class Violation
     /** The default severity level if one is not specified. */
     private static final SeverityLevel DEFAULT_SEVERITY = SeverityLevel.ERROR;
 
+    /** The compiled formats of the custom violations. */
+    private static final Map<String, MessageFormat> CUSTOM_MESSAGE_FORMATS =
+            new ConcurrentHashMap<>();
+
     /** The line number. **/
     private final int lineNo;
     /** The column number. **/
@@ -429,7 +435,9 @@ public final class Violation
     }
 
     /**
-     * Gets the translated violation.
+     * Gets the translated violation. The violation is formatted on each call, so it
+     * follows the locale of {@link LocalizedMessage}, but the compiled message
+     * formats are shared by all violations.
      *
      * @return the translated violation
      */
@@ -437,7 +445,10 @@ public final class Violation
         final String violation;
 
         if (customMessage != null) {
-            violation = new MessageFormat(customMessage, Locale.ROOT).format(args);
+            final MessageFormat formatter = CUSTOM_MESSAGE_FORMATS.computeIfAbsent(
+                    customMessage, pattern -> new MessageFormat(pattern, Locale.ROOT));
+            // MessageFormat is not thread safe, so the shared instance is not used directly
+            violation = ((MessageFormat) formatter.clone()).format(args);
         }
         else {
             violation = new LocalizedMessage(bundle, sourceClass, key, args).getMessage();
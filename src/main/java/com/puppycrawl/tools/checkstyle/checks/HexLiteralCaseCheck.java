@@ -56,6 +56,11 @@ public class HexLiteralCaseCheck extends AbstractCheck {
         // no code by default
     }
 
+    @Override
+    public boolean isTokenStreamSupported() {
+        return true;
+    }
+
     @Override
     public int[] getDefaultTokens() {
         return getRequiredTokens();
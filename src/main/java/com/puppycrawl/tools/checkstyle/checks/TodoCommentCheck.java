@@ -69,6 +69,11 @@ public class TodoCommentCheck
         return true;
     }
 
+    @Override
+    public boolean isTokenStreamSupported() {
+        return true;
+    }
+
     /**
      * Setter to specify pattern to match comments against.
      *
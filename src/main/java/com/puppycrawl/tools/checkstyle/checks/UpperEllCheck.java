@@ -54,6 +54,11 @@ public class UpperEllCheck extends AbstractCheck {
         // no code by default
     }
 
+    @Override
+    public boolean isTokenStreamSupported() {
+        return true;
+    }
+
     @Override
     public int[] getDefaultTokens() {
         return getRequiredTokens();
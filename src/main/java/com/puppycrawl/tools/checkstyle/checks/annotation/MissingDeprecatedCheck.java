@@ -120,6 +120,11 @@ public final class MissingDeprecatedCheck extends AbstractJavadocCheck {
         };
     }
 
+    @Override
+    public boolean isSharedJavadocWalkSupported() {
+        return true;
+    }
+
     /**
      * Setter to control when to print violations if the Javadoc being examined by this check
      * violates the tight html rules defined at
@@ -98,6 +98,11 @@ public class IllegalTokenTextCheck
         return true;
     }
 
+    @Override
+    public boolean isTokenStreamSupported() {
+        return true;
+    }
+
     @Override
     public void visitToken(DetailAST ast) {
         final String text = ast.getText();
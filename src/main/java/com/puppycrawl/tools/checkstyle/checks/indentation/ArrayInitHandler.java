@@ -135,7 +135,7 @@ public class ArrayInitHandler extends BlockParentHandler {
      */
     private int getNextFirstNonBlankOnLineAfter(int lineNo, int columnNo) {
         int realColumnNo = columnNo + 1;
-        final String line = getIndentCheck().getLines()[lineNo - 1];
+        final String line = getIndentCheck().getLine(lineNo - 1);
         final int lineLength = line.length();
         while (realColumnNo < lineLength
                && Character.isWhitespace(line.charAt(realColumnNo))) {
@@ -875,7 +875,7 @@ public class CommentsIndentationCheck extends AbstractCheck {
      * @return the column number where a code starts.
      */
     private int getLineStart(int lineNo) {
-        final char[] line = getLines()[lineNo - 1].toCharArray();
+        final char[] line = getLine(lineNo - 1).toCharArray();
         int lineStart = 0;
         while (Character.isWhitespace(line[lineStart])) {
             lineStart++;
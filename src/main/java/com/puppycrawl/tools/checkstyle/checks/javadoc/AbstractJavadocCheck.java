@@ -20,6 +20,7 @@
 package com.puppycrawl.tools.checkstyle.checks.javadoc;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -28,6 +29,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import com.puppycrawl.tools.checkstyle.JavadocCheckAccessor;
 import com.puppycrawl.tools.checkstyle.JavadocDetailNodeParser;
 import com.puppycrawl.tools.checkstyle.JavadocDetailNodeParser.ParseErrorMessage;
 import com.puppycrawl.tools.checkstyle.JavadocDetailNodeParser.ParseStatus;
@@ -63,6 +65,14 @@ public abstract class AbstractJavadocCheck extends AbstractCheck {
     public static final String MSG_KEY_UNCLOSED_HTML_TAG =
             JavadocDetailNodeParser.MSG_UNCLOSED_HTML_TAG;
 
+    /** The javadoc tokens the tree of a javadoc comment without tags and HTML consists of. */
+    private static final Set<Integer> PLAIN_JAVADOC_TOKENS = Set.of(
+            JavadocCommentsTokenTypes.JAVADOC_CONTENT,
+            JavadocCommentsTokenTypes.TEXT,
+            JavadocCommentsTokenTypes.NEWLINE,
+            JavadocCommentsTokenTypes.LEADING_ASTERISK,
+            JavadocCommentsTokenTypes.LEADING_ASTERISKS);
+
     /**
      * Key is the block comment node "lineNo". Value is {@link DetailNode} tree.
      * Map is stored in {@link ThreadLocal}
@@ -96,6 +106,10 @@ public abstract class AbstractJavadocCheck extends AbstractCheck {
      */
     private boolean violateExecutionOnNonTightHtml;
 
+    static {
+        JavadocCheckAccessor.setInstance(new Accessor());
+    }
+
     /**
      * Creates a new {@code AbstractJavadocCheck} instance.
      */
@@ -184,6 +198,46 @@ public abstract class AbstractJavadocCheck extends AbstractCheck {
         }
     }
 
+    /**
+     * Whether the javadoc comments can be parsed and walked for this check by
+     * {@code TreeWalker}, once for all javadoc checks which support it, instead of
+     * visiting the check for each javadoc comment. The check should return true
+     * only if it processes javadoc comments through the javadoc token methods,
+     * as then {@link #visitToken(DetailAST)} is not called for it. A check which
+     * supports it should not override the processing of other tokens, and its
+     * subclasses which do should return false. The tree of a javadoc comment
+     * without tags and HTML is walked for the check only if it is interested in
+     * the text, newlines or leading asterisks of the comment.
+     *
+     * @return false as a default value.
+     */
+    public boolean isSharedJavadocWalkSupported() {
+        return false;
+    }
+
+    /**
+     * Returns the javadoc tokens the check is interested in.
+     *
+     * @return the set of javadoc token ids
+     */
+    /* package */ Set<Integer> getJavadocTokens() {
+        return Collections.unmodifiableSet(javadocTokens);
+    }
+
+    /**
+     * Whether the check processes javadoc comments which have no tags and no HTML.
+     * Such comments are parsed into a tree of text, newlines and leading asterisks,
+     * so the check processes them only if it is interested in one of these tokens.
+     * Otherwise {@code TreeWalker} can skip their parsing when no other javadoc
+     * check processes them.
+     *
+     * @return true if the check processes plain javadoc comments
+     * @see JavadocUtil#isPlainJavadocComment(DetailAST)
+     */
+    /* package */ boolean isPlainJavadocProcessed() {
+        return javadocTokens.stream().anyMatch(PLAIN_JAVADOC_TOKENS::contains);
+    }
+
     @Override
     public void init() {
         validateDefaultJavadocTokens();
@@ -301,56 +355,96 @@ public abstract class AbstractJavadocCheck extends AbstractCheck {
     @Override
     public void visitToken(DetailAST blockCommentNode) {
         if (JavadocUtil.isJavadocComment(blockCommentNode)) {
-            // store as field, to share with child Checks
-            context.get().blockCommentAst = blockCommentNode;
+            final ParseStatus result =
+                    parseJavadocComment(blockCommentNode, context.get().parser);
 
-            final int treeCacheKey = blockCommentNode.getLineNo();
+            beginJavadocComment(blockCommentNode, result);
+            if (isJavadocTreeProcessed(result)) {
+                walk(result.getTree());
+            }
+            finishJavadocComment(result);
+        }
+    }
 
-            final ParseStatus result = TREE_CACHE.get()
-                    .computeIfAbsent(treeCacheKey, lineNumber -> {
-                        return context.get().parser.parseJavadocComment(blockCommentNode);
-                    });
+    /**
+     * Parses a javadoc comment, unless it is already parsed in the current file.
+     * The result is shared by the checks which walk the javadoc comments themselves
+     * and by {@code TreeWalker}, which walks them for the other javadoc checks,
+     * so each javadoc comment is parsed once.
+     *
+     * @param blockCommentNode the block comment node of the javadoc comment
+     * @param parser the parser to use if the comment is not parsed yet
+     * @return the result of parsing the javadoc comment
+     */
+    /* package */ static ParseStatus parseJavadocComment(DetailAST blockCommentNode,
+            JavadocDetailNodeParser parser) {
+        return TREE_CACHE.get().computeIfAbsent(blockCommentNode.getLineNo(),
+                lineNumber -> parser.parseJavadocComment(blockCommentNode));
+    }
 
-            if (result.getParseErrorMessage() == null) {
-                if (acceptJavadocWithNonTightHtml() || !result.isNonTight()) {
-                    processTree(result.getTree());
-                }
+    /**
+     * Called before the tree of a javadoc comment is walked. Logs the parse error
+     * if the comment can not be parsed, or notifies the check that the tree is
+     * about to be walked, if the check processes it.
+     *
+     * @param blockCommentNode the block comment node of the javadoc comment
+     * @param status the result of parsing the javadoc comment
+     * @see #isJavadocTreeProcessed(ParseStatus)
+     */
+    /* package */ final void beginJavadocComment(DetailAST blockCommentNode, ParseStatus status) {
+        // store as field, to share with child Checks
+        context.get().blockCommentAst = blockCommentNode;
+
+        final ParseErrorMessage parseErrorMessage = status.getParseErrorMessage();
+        if (parseErrorMessage != null) {
+            log(parseErrorMessage.getLineNumber(),
+                    parseErrorMessage.getMessageKey(),
+                    parseErrorMessage.getMessageArguments());
+        }
+        else if (isJavadocTreeProcessed(status)) {
+            beginJavadocTree(status.getTree());
+        }
+    }
 
-                if (violateExecutionOnNonTightHtml && result.isNonTight()) {
-                    final DetailNode firstNonTightHtmlTag = result.getFirstNonTightHtmlTag();
-                    log(firstNonTightHtmlTag.getLineNumber(),
-                            MSG_KEY_UNCLOSED_HTML_TAG,
-                            firstNonTightHtmlTag.getText());
-                }
-            }
-            else {
-                final ParseErrorMessage parseErrorMessage = result.getParseErrorMessage();
-                log(parseErrorMessage.getLineNumber(),
-                        parseErrorMessage.getMessageKey(),
-                        parseErrorMessage.getMessageArguments());
-            }
+    /**
+     * Called after the tree of a javadoc comment is walked. Notifies the check
+     * that the tree was walked, if the check processes it, and logs the non-tight
+     * HTML of the comment, if the check is configured to.
+     *
+     * @param status the result of parsing the javadoc comment
+     */
+    /* package */ final void finishJavadocComment(ParseStatus status) {
+        if (isJavadocTreeProcessed(status)) {
+            finishJavadocTree(status.getTree());
+        }
+        if (status.getParseErrorMessage() == null
+                && violateExecutionOnNonTightHtml && status.isNonTight()) {
+            final DetailNode firstNonTightHtmlTag = status.getFirstNonTightHtmlTag();
+            log(firstNonTightHtmlTag.getLineNumber(),
+                    MSG_KEY_UNCLOSED_HTML_TAG,
+                    firstNonTightHtmlTag.getText());
         }
     }
 
     /**
-     * Getter for block comment in Java language syntax tree.
+     * Checks whether the check processes the tree of a javadoc comment, that is whether
+     * the comment is parsed and its HTML is tight or accepted by the check.
      *
-     * @return A block comment in the syntax tree.
+     * @param status the result of parsing the javadoc comment
+     * @return true if the tree of the javadoc comment is walked for the check
      */
-    protected DetailAST getBlockCommentAst() {
-        return context.get().blockCommentAst;
+    private boolean isJavadocTreeProcessed(ParseStatus status) {
+        return status.getParseErrorMessage() == null
+                && (acceptJavadocWithNonTightHtml() || !status.isNonTight());
     }
 
     /**
-     * Processes JavadocAST tree notifying Check.
+     * Getter for block comment in Java language syntax tree.
      *
-     * @param root
-     *        root of JavadocAST tree.
+     * @return A block comment in the syntax tree.
      */
-    private void processTree(DetailNode root) {
-        beginJavadocTree(root);
-        walk(root);
-        finishJavadocTree(root);
+    protected DetailAST getBlockCommentAst() {
+        return context.get().blockCommentAst;
     }
 
     /**
@@ -413,6 +507,41 @@ public abstract class AbstractJavadocCheck extends AbstractCheck {
         log(node.getLineNumber(), node.getColumnNumber(), key, args);
     }
 
+    /**
+     * Gives {@code TreeWalker} access to the methods it uses to walk the javadoc
+     * comments for several checks at once.
+     */
+    private static final class Accessor extends JavadocCheckAccessor {
+
+        @Override
+        protected Set<Integer> getJavadocTokens(AbstractJavadocCheck check) {
+            return check.getJavadocTokens();
+        }
+
+        @Override
+        protected boolean isPlainJavadocProcessed(AbstractJavadocCheck check) {
+            return check.isPlainJavadocProcessed();
+        }
+
+        @Override
+        protected ParseStatus parseJavadocComment(DetailAST blockCommentNode,
+                JavadocDetailNodeParser parser) {
+            return AbstractJavadocCheck.parseJavadocComment(blockCommentNode, parser);
+        }
+
+        @Override
+        protected void beginJavadocComment(AbstractJavadocCheck check,
+                DetailAST blockCommentNode, ParseStatus status) {
+            check.beginJavadocComment(blockCommentNode, status);
+        }
+
+        @Override
+        protected void finishJavadocComment(AbstractJavadocCheck check, ParseStatus status) {
+            check.finishJavadocComment(status);
+        }
+
+    }
+
     /**
      * The file context holder.
      */
@@ -132,6 +132,11 @@ public class AtclauseOrderCheck extends AbstractJavadocCheck {
         return getAcceptableJavadocTokens();
     }
 
+    @Override
+    public boolean isSharedJavadocWalkSupported() {
+        return true;
+    }
+
     @Override
     public void visitJavadocToken(DetailNode ast) {
         final int parentType = getParentType(getBlockCommentAst());
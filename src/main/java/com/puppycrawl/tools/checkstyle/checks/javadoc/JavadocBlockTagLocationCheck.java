@@ -148,6 +148,11 @@ public class JavadocBlockTagLocationCheck extends AbstractJavadocCheck {
         return getRequiredJavadocTokens();
     }
 
+    @Override
+    public boolean isSharedJavadocWalkSupported() {
+        return true;
+    }
+
     @Override
     public void visitJavadocToken(DetailNode ast) {
         if (!isCommentOrInlineTag(ast)) {
@@ -23,7 +23,7 @@ import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import com.puppycrawl.tools.checkstyle.GlobalStatefulCheck;
+import com.puppycrawl.tools.checkstyle.FileStatefulCheck;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.api.DetailNode;
 import com.puppycrawl.tools.checkstyle.api.JavadocCommentsTokenTypes;
@@ -49,7 +49,7 @@ import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
  *
  * @since 10.18.0
  */
-@GlobalStatefulCheck
+@FileStatefulCheck
 public class JavadocLeadingAsteriskAlignCheck extends AbstractJavadocCheck {
 
     /**
@@ -87,6 +87,11 @@ public class JavadocLeadingAsteriskAlignCheck extends AbstractJavadocCheck {
         return getAcceptableJavadocTokens();
     }
 
+    @Override
+    public boolean isSharedJavadocWalkSupported() {
+        return true;
+    }
+
     @Override
     public void beginJavadocTree(DetailNode rootAst) {
         // this method processes and sets information of starting javadoc tag.
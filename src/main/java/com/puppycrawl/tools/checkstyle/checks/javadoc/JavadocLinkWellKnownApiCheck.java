@@ -110,6 +110,11 @@ public class JavadocLinkWellKnownApiCheck extends AbstractJavadocCheck {
         };
     }
 
+    @Override
+    public boolean isSharedJavadocWalkSupported() {
+        return true;
+    }
+
     /**
      * Setter to specify package names whose fully qualified API references should not be
      * linked.
@@ -71,6 +71,11 @@ public class JavadocMissingLeadingAsteriskCheck extends AbstractJavadocCheck {
         return getRequiredJavadocTokens();
     }
 
+    @Override
+    public boolean isSharedJavadocWalkSupported() {
+        return true;
+    }
+
     @Override
     public void visitJavadocToken(DetailNode detailNode) {
         if (!isInsideHtmlComment(detailNode)) {
@@ -61,6 +61,11 @@ public class JavadocMissingWhitespaceAfterAsteriskCheck extends AbstractJavadocC
         return getAcceptableJavadocTokens();
     }
 
+    @Override
+    public boolean isSharedJavadocWalkSupported() {
+        return true;
+    }
+
     @Override
     public void visitJavadocToken(DetailNode detailNode) {
         final DetailNode nextNode = resolveNextNode(detailNode);
@@ -145,6 +145,11 @@ public class JavadocParagraphCheck extends AbstractJavadocCheck {
         return getAcceptableJavadocTokens();
     }
 
+    @Override
+    public boolean isSharedJavadocWalkSupported() {
+        return true;
+    }
+
     @Override
     public void visitJavadocToken(DetailNode ast) {
         if (ast.getType() == JavadocCommentsTokenTypes.NEWLINE && isEmptyLine(ast)) {
@@ -127,6 +127,11 @@ public class JavadocRegexpCheck extends AbstractJavadocCheck {
         return getRequiredJavadocTokens();
     }
 
+    @Override
+    public boolean isSharedJavadocWalkSupported() {
+        return true;
+    }
+
     @Override
     public void beginJavadocTree(DetailNode rootAst) {
         visibleText.clear();
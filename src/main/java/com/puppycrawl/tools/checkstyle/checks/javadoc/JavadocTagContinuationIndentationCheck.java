@@ -97,6 +97,11 @@ public class JavadocTagContinuationIndentationCheck extends AbstractJavadocCheck
         return getAcceptableJavadocTokens();
     }
 
+    @Override
+    public boolean isSharedJavadocWalkSupported() {
+        return true;
+    }
+
     @Override
     public void visitJavadocToken(DetailNode ast) {
         if (isBlockDescription(ast) && !isInlineDescription(ast)) {
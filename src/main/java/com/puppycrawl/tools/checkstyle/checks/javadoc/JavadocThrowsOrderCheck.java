@@ -66,6 +66,11 @@ public class JavadocThrowsOrderCheck extends AbstractJavadocCheck {
         };
     }
 
+    @Override
+    public boolean isSharedJavadocWalkSupported() {
+        return true;
+    }
+
     @Override
     public void visitJavadocToken(DetailNode ast) {
         final DetailNode identifier = JavadocUtil.findFirstToken(
@@ -59,6 +59,11 @@ public class NonEmptyAtclauseDescriptionCheck extends AbstractJavadocCheck {
         };
     }
 
+    @Override
+    public boolean isSharedJavadocWalkSupported() {
+        return true;
+    }
+
     /**
      * Adds a set of tokens the check is interested in.
      *
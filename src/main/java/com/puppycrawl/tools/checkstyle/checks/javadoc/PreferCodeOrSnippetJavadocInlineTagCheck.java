@@ -105,6 +105,11 @@ public class PreferCodeOrSnippetJavadocInlineTagCheck extends AbstractJavadocChe
         return getRequiredJavadocTokens();
     }
 
+    @Override
+    public boolean isSharedJavadocWalkSupported() {
+        return true;
+    }
+
     @Override
     public void visitJavadocToken(DetailNode node) {
         if (isCodeOrPreTag(node) && isCompleteTag(node) && !isNested(node)) {
@@ -91,6 +91,11 @@ public class PreferLiteralJavadocInlineTagCheck extends AbstractJavadocCheck {
         return getAcceptableJavadocTokens();
     }
 
+    @Override
+    public boolean isSharedJavadocWalkSupported() {
+        return true;
+    }
+
     @Override
     public void visitJavadocToken(DetailNode ast) {
         if (!isInsidePreOrCodeTag(ast) && !isInsideInlineTag(ast)) {
@@ -142,6 +142,11 @@ public class RequireEmptyLineBeforeBlockTagGroupCheck extends AbstractJavadocChe
         return getAcceptableJavadocTokens();
     }
 
+    @Override
+    public boolean isSharedJavadocWalkSupported() {
+        return true;
+    }
+
     /**
      * Logs when there is no empty line before the tag.
      *
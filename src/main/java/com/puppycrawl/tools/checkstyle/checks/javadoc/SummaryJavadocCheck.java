@@ -154,6 +154,11 @@ public class SummaryJavadocCheck extends AbstractJavadocCheck {
         return getAcceptableJavadocTokens();
     }
 
+    @Override
+    public boolean isSharedJavadocWalkSupported() {
+        return true;
+    }
+
     @Override
     public void visitJavadocToken(DetailNode ast) {
         if (isSummaryTag(ast) && isDefinedFirst(ast.getParent())) {
@@ -71,7 +71,7 @@ public class MultilineDetector {
      * @param fileText the text to process
      */
     public void processLines(FileText fileText) {
-        text = new FileText(fileText);
+        text = fileText;
         resetState();
 
         final String format = options.getFormat();
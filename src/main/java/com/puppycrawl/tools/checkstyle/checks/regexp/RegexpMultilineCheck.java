@@ -22,8 +22,8 @@ package com.puppycrawl.tools.checkstyle.checks.regexp;
 import java.io.File;
 import java.util.regex.Pattern;
 
+import com.puppycrawl.tools.checkstyle.FileStatefulCheck;
 import com.puppycrawl.tools.checkstyle.PropertyType;
-import com.puppycrawl.tools.checkstyle.StatelessCheck;
 import com.puppycrawl.tools.checkstyle.XdocsPropertyType;
 import com.puppycrawl.tools.checkstyle.api.AbstractFileSetCheck;
 import com.puppycrawl.tools.checkstyle.api.FileText;
@@ -39,7 +39,7 @@ import com.puppycrawl.tools.checkstyle.api.FileText;
  *
  * @since 5.0
  */
-@StatelessCheck
+@FileStatefulCheck
 public class RegexpMultilineCheck extends AbstractFileSetCheck {
 
     /** A key is pointing to the warning message text in "messages.properties" file. */
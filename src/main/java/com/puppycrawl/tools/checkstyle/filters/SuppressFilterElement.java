@@ -154,7 +154,17 @@ public class SuppressFilterElement
                 && (fileRegexp == null || isFileMatch(event.getFileName()))
                 && event.getViolation() != null
                 && (moduleId == null || moduleId.equals(event.getModuleId()))
-                && (checkRegexp == null || checkRegexp.matcher(event.getSourceName()).find());
+                && isCheckMatch(event.getSourceName());
+    }
+
+    /**
+     * Checks if the given check name matches the check regexp, if any.
+     *
+     * @param sourceName the name of the check
+     * @return true if there is no check regexp or the check matches it
+     */
+    /* package */ boolean isCheckMatch(String sourceName) {
+        return checkRegexp == null || checkRegexp.matcher(sourceName).find();
     }
 
     /**
@@ -165,7 +175,7 @@ public class SuppressFilterElement
      * @param fileName the name of the file to check
      * @return true if the file matches the regexp
      */
-    private boolean isFileMatch(String fileName) {
+    /* package */ boolean isFileMatch(String fileName) {
         boolean match = fileRegexp.matcher(fileName).find();
         if (!match) {
             final String slashesFileName = fileName.replace('\\', '/');
@@ -196,6 +206,26 @@ public class SuppressFilterElement
                 || columnFilter != null && columnFilter.accept(event.getColumn());
     }
 
+    /**
+     * Gets the regexp to match file names against.
+     *
+     * @return the regexp, or {@code null} if file names are not filtered
+     */
+    @Nullable
+    /* package */ String getFilePattern() {
+        return getPatternSafely(fileRegexp);
+    }
+
+    /**
+     * Gets the regexp to match check names against.
+     *
+     * @return the regexp, or {@code null} if check names are not filtered
+     */
+    @Nullable
+    /* package */ String getCheckPattern() {
+        return getPatternSafely(checkRegexp);
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(getPatternSafely(fileRegexp), getPatternSafely(checkRegexp),
@@ -0,0 +1,148 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2026 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.filters;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.Filter;
+
+/**
+ * Applies a set of filters to audit events, like {@code FilterSet}, but matches
+ * an audit event only with the {@link SuppressFilterElement} filters whose file and
+ * check patterns match it.
+ *
+ * <p>
+ * The suppress elements are grouped by their file pattern and by their check pattern,
+ * so each distinct pattern is matched once instead of once per suppress element.
+ * The suppress elements matching the file of the events are kept until an event
+ * of another file is filtered, and the ones matching the check of an event are
+ * kept for the next events of the same check in this file, as the events are
+ * filtered file by file.
+ * </p>
+ */
+final class SuppressFilterElementIndex implements Filter {
+
+    /** The filters which are not suppress elements, matched with all events. */
+    private final List<Filter> otherFilters = new ArrayList<>();
+
+    /**
+     * The suppress elements by file pattern, the key is {@code null}
+     * for the suppress elements without file pattern.
+     */
+    private final Map<String, List<SuppressFilterElement>> elementsByFile = new HashMap<>();
+
+    /**
+     * The suppress elements matching the current file by check pattern, the key is
+     * {@code null} for the suppress elements without check pattern.
+     */
+    private final Map<String, List<SuppressFilterElement>> fileElementsByCheck = new HashMap<>();
+
+    /** The suppress elements matching the current file by check name. */
+    private final Map<String, List<SuppressFilterElement>> fileElementsBySource =
+            new HashMap<>();
+
+    /** The name of the file of the last filtered event. */
+    private String currentFileName;
+
+    /**
+     * Creates a new {@code SuppressFilterElementIndex} instance.
+     *
+     * @param filters the filters to apply.
+     */
+    /* package */ SuppressFilterElementIndex(Collection<Filter> filters) {
+        for (Filter filter : filters) {
+            if (filter instanceof SuppressFilterElement element) {
+                elementsByFile.computeIfAbsent(element.getFilePattern(),
+                        pattern -> new ArrayList<>()).add(element);
+            }
+            else {
+                otherFilters.add(filter);
+            }
+        }
+    }
+
+    @Override
+    public boolean accept(AuditEvent event) {
+        boolean result = true;
+        for (Filter filter : otherFilters) {
+            if (!filter.accept(event)) {
+                result = false;
+                break;
+            }
+        }
+        if (result && event.getFileName() != null && event.getViolation() != null) {
+            for (SuppressFilterElement element : getElements(event)) {
+                if (!element.accept(event)) {
+                    result = false;
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the suppress elements whose file and check patterns match an event.
+     *
+     * @param event the event with a file name and a violation.
+     * @return the suppress elements matching the file and the check of the event.
+     */
+    private List<SuppressFilterElement> getElements(AuditEvent event) {
+        final String fileName = event.getFileName();
+        if (!fileName.equals(currentFileName)) {
+            currentFileName = fileName;
+            fileElementsByCheck.clear();
+            fileElementsBySource.clear();
+            elementsByFile.forEach((filePattern, elements) -> {
+                if (filePattern == null || elements.get(0).isFileMatch(fileName)) {
+                    for (SuppressFilterElement element : elements) {
+                        fileElementsByCheck.computeIfAbsent(element.getCheckPattern(),
+                                pattern -> new ArrayList<>()).add(element);
+                    }
+                }
+            });
+        }
+        return fileElementsBySource.computeIfAbsent(event.getSourceName(),
+                this::getFileElementsByCheckName);
+    }
+
+    /**
+     * Gets the suppress elements matching the current file whose check pattern
+     * matches a check name.
+     *
+     * @param sourceName the name of the check.
+     * @return the suppress elements matching the current file and the check.
+     */
+    private List<SuppressFilterElement> getFileElementsByCheckName(String sourceName) {
+        final List<SuppressFilterElement> result = new ArrayList<>();
+        fileElementsByCheck.forEach((checkPattern, elements) -> {
+            if (checkPattern == null || elements.get(0).isCheckMatch(sourceName)) {
+                result.addAll(elements);
+            }
+        });
+        return result;
+    }
+
+}
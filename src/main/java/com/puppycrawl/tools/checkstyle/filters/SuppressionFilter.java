@@ -133,6 +133,8 @@ public class SuppressionFilter
     private boolean optional;
     /** Set of individual suppresses. */
     private FilterSet filters = new FilterSet();
+    /** Index of the individual suppresses, which matches events with the relevant ones only. */
+    private Filter suppressions = new SuppressFilterElementIndex(filters.getFilters());
 
     /**
      * Creates a new {@code SuppressionFilter} instance.
@@ -166,7 +168,7 @@ public class SuppressionFilter
 
     @Override
     public boolean accept(AuditEvent event) {
-        return filters.accept(event);
+        return suppressions.accept(event);
     }
 
     @Override
@@ -181,6 +183,7 @@ public class SuppressionFilter
                 filters = SuppressionsLoader.loadSuppressions(file);
             }
         }
+        suppressions = new SuppressFilterElementIndex(filters.getFilters());
     }
 
     @Override
@@ -0,0 +1,165 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2026 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.grammar;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+/**
+ * A {@link CharStream} which reads the characters of a {@link CharSequence} directly,
+ * without copying them into an array of code points like
+ * {@link CharStreams#fromString(String)} does.
+ *
+ * <p>
+ * ANTLR streams are indexed by code points, so this stream is only used for texts
+ * without surrogate characters, where every char is a code point. Other texts are
+ * read by a stream created by {@link CharStreams}.
+ * </p>
+ */
+public final class CharSequenceCharStream implements CharStream {
+
+    /** The text of the stream. */
+    private final CharSequence text;
+
+    /** The index of the next character to read. */
+    private int position;
+
+    /**
+     * Creates a new {@code CharSequenceCharStream} instance.
+     *
+     * @param text the text of the stream, without surrogate characters
+     */
+    private CharSequenceCharStream(CharSequence text) {
+        this.text = text;
+    }
+
+    /**
+     * Creates a stream of the code points of a text.
+     *
+     * @param text the text to read
+     * @return a stream which reads the text without copying it if possible
+     */
+    public static CharStream create(CharSequence text) {
+        final CharStream result;
+        if (containsSurrogates(text)) {
+            result = CharStreams.fromString(text.toString());
+        }
+        else {
+            result = new CharSequenceCharStream(text);
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether a text contains surrogate characters.
+     *
+     * @param text the text to check
+     * @return {@code true} if a code point of the text takes two chars
+     */
+    private static boolean containsSurrogates(CharSequence text) {
+        boolean result = false;
+        final int length = text.length();
+        for (int index = 0; index < length; index++) {
+            if (Character.isSurrogate(text.charAt(index))) {
+                result = true;
+                break;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String getText(Interval interval) {
+        final int start = Math.min(interval.a, text.length());
+        final int end = Math.min(interval.b + 1, text.length());
+        return text.subSequence(start, Math.max(start, end)).toString();
+    }
+
+    @Override
+    public void consume() {
+        if (position == text.length()) {
+            throw new IllegalStateException("cannot consume EOF");
+        }
+        position++;
+    }
+
+    // -@cs[MethodName] The name is defined by the ANTLR IntStream interface
+    @Override
+    public int LA(int offset) {
+        final int index;
+        if (offset > 0) {
+            index = position + offset - 1;
+        }
+        else {
+            index = position + offset;
+        }
+
+        final int result;
+        if (offset == 0) {
+            // undefined, like in the streams of CharStreams
+            result = 0;
+        }
+        else if (index < 0 || index >= text.length()) {
+            result = IntStream.EOF;
+        }
+        else {
+            result = text.charAt(index);
+        }
+        return result;
+    }
+
+    @Override
+    public int mark() {
+        return -1;
+    }
+
+    @Override
+    public void release(int marker) {
+        // the whole text is kept, there is nothing to release
+    }
+
+    @Override
+    public int index() {
+        return position;
+    }
+
+    @Override
+    public void seek(int index) {
+        position = index;
+    }
+
+    @Override
+    public int size() {
+        return text.length();
+    }
+
+    @Override
+    public String getSourceName() {
+        return IntStream.UNKNOWN_SOURCE_NAME;
+    }
+
+    @Override
+    public String toString() {
+        return text.toString();
+    }
+
+}
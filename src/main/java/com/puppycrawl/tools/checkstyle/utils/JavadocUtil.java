@@ -121,6 +121,20 @@ public final class JavadocUtil {
         return commentContent.getText().substring(1);
     }
 
+    /**
+     * Checks whether a Javadoc comment is plain text, without parsing it. A Javadoc
+     * comment without the characters which start block tags, inline tags and HTML
+     * is always parsed into a tree of text, newlines and leading asterisks only.
+     *
+     * @param javadocCommentBegin
+     *        Javadoc comment AST
+     * @return true if the Javadoc comment has no tags and no HTML.
+     */
+    public static boolean isPlainJavadocComment(DetailAST javadocCommentBegin) {
+        final String commentContent = getBlockCommentContent(javadocCommentBegin);
+        return commentContent.indexOf('@') == -1 && commentContent.indexOf('<') == -1;
+    }
+
     /**
      * Returns the Javadoc block comment attached to the given declaration AST node.
      *
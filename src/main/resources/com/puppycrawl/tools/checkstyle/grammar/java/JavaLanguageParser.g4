@@ -23,16 +23,6 @@ options { tokenVocab=JavaLanguageLexer; }
 
 @parser::members {
 
-    /**
-     * This is the number of files to parse before clearing the parser's
-     * DFA states. This number can have a significant impact on performance;
-     * we have found 500 files to be a good balance between parser speed and
-     * memory usage. This field must be public in order to be accessed and
-     * used for {@link JavaLanguageParser#JavaLanguageParser(TokenStream, int)}
-     * generated constructor.
-     */
-    public static final int CLEAR_DFA_LIMIT = 500;
-
     /**
     * This value tracks the depth of a switch expression. Along with the
     * IDENT to id rule at the end of the parser, this value helps us
@@ -51,28 +41,29 @@ options { tokenVocab=JavaLanguageLexer; }
         return _input.LT(1).getType() == JavaLanguageLexer.LITERAL_YIELD && switchBlockDepth > 0;
     }
 
-    static int fileCounter = 0;
-
     /**
-     * We create a custom constructor so that we can clear the DFA
-     * states upon instantiation of JavaLanguageParser.
+     * Counts the states of the DFA, which is shared by all instances of the parser
+     * and grows with the variety of the parsed code. The count is a measure of the
+     * memory used by the DFA. The result is approximate if other threads are parsing.
      *
-     * @param input the token stream to parse
-     * @param clearDfaLimit this is the number of files to parse before clearing
-     *         the parser's DFA states. This number can have a significant impact
-     *         on performance; more frequent clearing of DFA states can lead to
-     *         slower parsing but lower memory usage. Conversely, not clearing the
-     *         DFA states at all can lead to enormous memory usage, but may also
-     *         have a negative effect on memory usage from higher garbage collector
-     *         activity.
+     * @return the number of DFA states of all decisions
+     */
+    public static int getDfaStateCount() {
+        int result = 0;
+        for (DFA dfa : _decisionToDFA) {
+            result += dfa.states.size();
+        }
+        return result;
+    }
+
+    /**
+     * Clears the DFA shared by all instances of the parser to release its memory.
+     * It is safe to call while other threads are parsing, as a running prediction
+     * keeps using the DFA of the decision it started with.
      */
-    public JavaLanguageParser(TokenStream input, int clearDfaLimit) {
-        super(input);
-        _interp = new ParserATNSimulator(this, _ATN , _decisionToDFA, _sharedContextCache);
-        fileCounter++;
-        if (fileCounter > clearDfaLimit) {
-            _interp.clearDFA();
-            fileCounter = 0;
+    public static void clearDfa() {
+        for (int decision = 0; decision < _decisionToDFA.length; decision++) {
+            _decisionToDFA[decision] = new DFA(_ATN.getDecisionState(decision), decision);
         }
     }
 }
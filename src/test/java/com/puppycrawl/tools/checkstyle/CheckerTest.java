@@ -42,6 +42,7 @@ import java.io.Serial;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -54,6 +55,7 @@ import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.apache.tools.ant.BuildException;
 import org.apache.tools.ant.Project;
@@ -78,6 +80,7 @@ import com.puppycrawl.tools.checkstyle.api.MessageDispatcher;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 import com.puppycrawl.tools.checkstyle.api.Violation;
 import com.puppycrawl.tools.checkstyle.checks.NewlineAtEndOfFileCheck;
+import com.puppycrawl.tools.checkstyle.checks.TodoCommentCheck;
 import com.puppycrawl.tools.checkstyle.checks.TranslationCheck;
 import com.puppycrawl.tools.checkstyle.checks.coding.HiddenFieldCheck;
 import com.puppycrawl.tools.checkstyle.checks.sizes.LineLengthCheck;
@@ -1776,6 +1779,256 @@ public class CheckerTest extends AbstractModuleTestSupport {
             "IllegalStateException from CommonUtil.relativizePath not found in cause chain");
     }
 
+    @Test
+    public void testMultiThreadModeProducesSameReport() throws Exception {
+        final List<File> files = getFilesForMultiThreadAudit();
+
+        final String singleThreadReport =
+                auditWithXmlLogger(ThreadModeSettings.SINGLE_THREAD_MODE_INSTANCE, files);
+        final String multiThreadReport =
+                auditWithXmlLogger(new ThreadModeSettings(4, 1), files);
+
+        assertWithMessage("Report must contain violations")
+            .that(singleThreadReport)
+            .contains("<error ");
+        assertWithMessage("Report in multi thread mode differs from single thread mode")
+            .that(multiThreadReport)
+            .isEqualTo(singleThreadReport);
+    }
+
+    @Test
+    public void testCacheViolationsProducesSameReport() throws Exception {
+        final List<File> files = getFilesForMultiThreadAudit();
+        final String fullReport =
+                auditWithXmlLogger(ThreadModeSettings.SINGLE_THREAD_MODE_INSTANCE, files);
+
+        final File cacheFile = createTempFile("junit");
+        final DefaultConfiguration checkerConfig =
+                createConfigForXmlAudit(ThreadModeSettings.SINGLE_THREAD_MODE_INSTANCE);
+        checkerConfig.addProperty("cacheFile", cacheFile.getPath());
+        checkerConfig.addProperty("cacheViolations", "true");
+        final String firstReport = auditWithXmlLogger(checkerConfig, files);
+        final String cachedReport = auditWithXmlLogger(checkerConfig, files);
+
+        final Properties cache = new Properties();
+        try (BufferedReader reader = Files.newBufferedReader(cacheFile.toPath())) {
+            cache.load(reader);
+        }
+        assertWithMessage("Cache should contain violations")
+            .that(cache.stringPropertyNames().stream()
+                .filter(name -> name.startsWith(PropertyCacheFile.VIOLATIONS_KEY_PREFIX))
+                .count())
+            .isGreaterThan(0L);
+        assertWithMessage("Report with empty cache differs from report without cache")
+            .that(firstReport)
+            .isEqualTo(fullReport);
+        assertWithMessage("Report with cached violations differs from report without cache")
+            .that(cachedReport)
+            .isEqualTo(fullReport);
+    }
+
+    @Test
+    public void testCacheViolationsInMultiThreadMode() throws Exception {
+        final List<File> files = getFilesForMultiThreadAudit();
+        final String fullReport =
+                auditWithXmlLogger(ThreadModeSettings.SINGLE_THREAD_MODE_INSTANCE, files);
+
+        final File cacheFile = createTempFile("junit");
+        final DefaultConfiguration checkerConfig =
+                createConfigForXmlAudit(new ThreadModeSettings(4, 1));
+        checkerConfig.addProperty("cacheFile", cacheFile.getPath());
+        checkerConfig.addProperty("cacheViolations", "true");
+        auditWithXmlLogger(checkerConfig, files);
+        final String cachedReport = auditWithXmlLogger(checkerConfig, files);
+
+        assertWithMessage("Report with cached violations differs from report without cache")
+            .that(cachedReport)
+            .isEqualTo(fullReport);
+    }
+
+    @Test
+    public void testCachedViolationsAreIgnoredWithoutCacheViolations() throws Exception {
+        final Checker checker = createChecker(createModuleConfig(NewlineAtEndOfFileCheck.class));
+        final DebugAuditAdapter auditAdapter = new DebugAuditAdapter();
+        checker.addListener(auditAdapter);
+        final File cacheFile = createTempFile("cacheFile", ".txt");
+        checker.setCacheFile(cacheFile.getPath());
+        final File testFile = createTempFile("testFile", ".java");
+        Files.writeString(testFile.toPath(), "class Test {}");
+        final PropertyCacheFile cache = TestUtil.getInternalState(checker,
+                "cacheFile", PropertyCacheFile.class);
+        cache.put(testFile.getAbsolutePath(), testFile.lastModified());
+        cache.putViolations(testFile.getAbsolutePath(), List.of(new Violation(1,
+                Definitions.CHECKSTYLE_BUNDLE, "key", null, null, getClass(), null)));
+
+        final int errorCount = checker.process(List.of(testFile));
+
+        assertWithMessage("File with cached violations should be checked again")
+            .that(auditAdapter.getNumFilesStarted())
+            .isEqualTo(1);
+        assertWithMessage("Violations should be reported by the check")
+            .that(errorCount)
+            .isEqualTo(1);
+    }
+
+    @Test
+    public void testTreeWalkersShareParsing() throws Exception {
+        final DefaultConfiguration firstTreeWalkerConfig = createModuleConfig(TreeWalker.class);
+        firstTreeWalkerConfig.addChild(createModuleConfig(TodoCommentCheck.class));
+        firstTreeWalkerConfig.addChild(createModuleConfig(HiddenFieldCheck.class));
+        final DefaultConfiguration secondTreeWalkerConfig = createModuleConfig(TreeWalker.class);
+        secondTreeWalkerConfig.addChild(createModuleConfig(HiddenFieldCheck.class));
+        secondTreeWalkerConfig.addChild(createModuleConfig(TodoCommentCheck.class));
+        final DefaultConfiguration checkerConfig = createRootConfig(firstTreeWalkerConfig);
+        checkerConfig.addChild(secondTreeWalkerConfig);
+        final Checker checker = createChecker(checkerConfig);
+
+        final File file = createTempFile("file", ".java");
+        Files.writeString(file.toPath(), "class A {\n    // TODO:\n    int a;\n"
+                + "    void m(int a) {}\n}\n");
+        final int errorCount = checker.process(List.of(file));
+
+        assertWithMessage("Both TreeWalkers should report both violations")
+            .that(errorCount)
+            .isEqualTo(4);
+    }
+
+    @Test
+    public void testParserThreadsParseFilesAhead() throws Exception {
+        final DefaultConfiguration treeWalkerConfig = createModuleConfig(TreeWalker.class);
+        treeWalkerConfig.addProperty("skipFileOnJavaParseException", "true");
+        treeWalkerConfig.addChild(createModuleConfig(HiddenFieldCheck.class));
+        final DefaultConfiguration checkerConfig = createRootConfig(treeWalkerConfig);
+        checkerConfig.addProperty("parserThreadsNumber", "2");
+        final Checker checker = createChecker(checkerConfig);
+
+        final List<File> files = new ArrayList<>();
+        for (int index = 0; index < 10; index++) {
+            final File file = createTempFile("file", ".java");
+            Files.writeString(file.toPath(), "class A {\n    int a;\n"
+                    + "    void m(int a) {}\n}\n");
+            files.add(file);
+        }
+        final File invalidFile = createTempFile("invalid", ".java");
+        Files.writeString(invalidFile.toPath(), "class {\n");
+        files.add(3, invalidFile);
+        files.add(7, new File(temporaryFolder, "missing.java"));
+        final int errorCount = checker.process(files);
+
+        assertWithMessage("Every file should be reported once")
+            .that(errorCount)
+            .isEqualTo(12);
+    }
+
+    @Test
+    public void testMultiThreadModeGlobalStatefulCheckProcessesOneFileAtATime()
+            throws Exception {
+        final DefaultConfiguration treeWalkerConfig =
+                new DefaultConfiguration(TreeWalker.class.getName(), new ThreadModeSettings(4, 1));
+        treeWalkerConfig.addChild(createModuleConfig(GlobalStatefulFileCounterCheck.class));
+        final DefaultConfiguration checkerConfig =
+                new DefaultConfiguration(ROOT_MODULE_NAME, new ThreadModeSettings(4, 1));
+        checkerConfig.addChild(treeWalkerConfig);
+        final Checker checker = new Checker();
+        checker.setModuleClassLoader(Thread.currentThread().getContextClassLoader());
+        checker.configure(checkerConfig);
+        GlobalStatefulFileCounterCheck.reset();
+
+        final List<File> files = getFilesForMultiThreadAudit();
+        final int errorCount = checker.process(files);
+
+        assertWithMessage("Global stateful check should process one file at a time")
+            .that(errorCount)
+            .isEqualTo(0);
+        assertWithMessage("Global stateful check should process every file")
+            .that(GlobalStatefulFileCounterCheck.getFileCount())
+            .isEqualTo(files.stream().filter(file -> file.getName().endsWith(".java")).count());
+    }
+
+    @Test
+    public void testMultiThreadModeHaltOnException() throws Exception {
+        final DefaultConfiguration treeWalkerConfig = createModuleConfig(TreeWalker.class);
+        treeWalkerConfig.addChild(createModuleConfig(CheckWhichThrowsError.class));
+        final DefaultConfiguration checkerConfig =
+                new DefaultConfiguration(ROOT_MODULE_NAME, new ThreadModeSettings(2, 1));
+        checkerConfig.addChild(treeWalkerConfig);
+        final Checker checker = createChecker(checkerConfig);
+
+        final String filePath = getPath("InputChecker.java");
+        final List<File> files = List.of(new File(getPath("InputCheckerTestCharset.java")),
+                new File(filePath));
+        final CheckstyleException exc =
+                getExpectedThrowable(CheckstyleException.class, () -> {
+                    checker.process(files);
+                }, "Exception is expected");
+        assertWithMessage("Error message is not expected")
+            .that(exc.getMessage())
+            .isEqualTo("Exception was thrown while processing "
+                    + getPath("InputCheckerTestCharset.java"));
+    }
+
+    @Test
+    public void testMultiThreadModeFiresEventsInOrder() throws Exception {
+        final DefaultConfiguration checkerConfig =
+                new DefaultConfiguration(ROOT_MODULE_NAME, new ThreadModeSettings(3, 1));
+        checkerConfig.addChild(createModuleConfig(NewlineAtEndOfFileCheck.class));
+        final Checker checker = new Checker();
+        checker.setModuleClassLoader(Thread.currentThread().getContextClassLoader());
+        checker.configure(checkerConfig);
+        final DebugAuditAdapter auditAdapter = new DebugAuditAdapter();
+        checker.addListener(auditAdapter);
+
+        final List<File> files = getFilesForMultiThreadAudit();
+        checker.process(files);
+
+        assertWithMessage("Audit was started on unexpected amount of files")
+            .that(auditAdapter.getNumFilesStarted())
+            .isEqualTo(files.size());
+        assertWithMessage("Audit was finished on unexpected amount of files")
+            .that(auditAdapter.getNumFilesFinished())
+            .isEqualTo(files.size());
+    }
+
+    private List<File> getFilesForMultiThreadAudit() throws IOException {
+        final List<File> files = new ArrayList<>();
+        try (Stream<Path> paths = Files.list(Path.of(getPath("InputChecker.java")).getParent()
+                .resolveSibling("checks/coding/hiddenfield"))) {
+            paths.sorted().map(Path::toFile).forEach(files::add);
+        }
+        return files;
+    }
+
+    private String auditWithXmlLogger(ThreadModeSettings threadModeSettings, List<File> files)
+            throws Exception {
+        return auditWithXmlLogger(createConfigForXmlAudit(threadModeSettings), files);
+    }
+
+    private static DefaultConfiguration createConfigForXmlAudit(
+            ThreadModeSettings threadModeSettings) {
+        final DefaultConfiguration treeWalkerConfig =
+                new DefaultConfiguration(TreeWalker.class.getName(), threadModeSettings);
+        treeWalkerConfig.addChild(createModuleConfig(HiddenFieldCheck.class));
+        final DefaultConfiguration checkerConfig =
+                new DefaultConfiguration(ROOT_MODULE_NAME, threadModeSettings);
+        checkerConfig.addProperty("charset", StandardCharsets.UTF_8.name());
+        checkerConfig.addChild(createModuleConfig(NewlineAtEndOfFileCheck.class));
+        checkerConfig.addChild(createModuleConfig(LineLengthCheck.class));
+        checkerConfig.addChild(treeWalkerConfig);
+        return checkerConfig;
+    }
+
+    private static String auditWithXmlLogger(DefaultConfiguration checkerConfig,
+            List<File> files) throws Exception {
+        final Checker checker = new Checker();
+        checker.setModuleClassLoader(Thread.currentThread().getContextClassLoader());
+        checker.configure(checkerConfig);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        checker.addListener(new XMLLogger(out, OutputStreamOptions.CLOSE));
+        checker.process(files);
+        checker.destroy();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
     public static class DefaultLoggerWithCounter extends DefaultLogger {
 
         private int fileStartedCount;
@@ -1862,6 +2115,63 @@ public class CheckerTest extends AbstractModuleTestSupport {
 
     }
 
+    @GlobalStatefulCheck
+    public static class GlobalStatefulFileCounterCheck extends AbstractCheck {
+
+        private static long fileCount;
+
+        private static boolean fileInProgress;
+
+        private static synchronized void reset() {
+            fileCount = 0;
+            fileInProgress = false;
+        }
+
+        private static synchronized long getFileCount() {
+            return fileCount;
+        }
+
+        private static synchronized boolean startFile() {
+            final boolean result = !fileInProgress;
+            fileInProgress = true;
+            fileCount++;
+            return result;
+        }
+
+        private static synchronized void finishFile() {
+            fileInProgress = false;
+        }
+
+        @Override
+        public int[] getDefaultTokens() {
+            return CommonUtil.EMPTY_INT_ARRAY;
+        }
+
+        @Override
+        public int[] getAcceptableTokens() {
+            return CommonUtil.EMPTY_INT_ARRAY;
+        }
+
+        @Override
+        public int[] getRequiredTokens() {
+            return CommonUtil.EMPTY_INT_ARRAY;
+        }
+
+        @Override
+        public void beginTree(DetailAST rootAST) {
+            if (!startFile()) {
+                log(1, "Another file is processed at the same time");
+            }
+            Thread.yield();
+        }
+
+        @Override
+        public void finishTree(DetailAST rootAST) {
+            finishFile();
+        }
+
+    }
+
     public static class CheckWhichDoesNotRequireCommentNodes extends AbstractCheck {
 
         /** Number of children of method definition token. */
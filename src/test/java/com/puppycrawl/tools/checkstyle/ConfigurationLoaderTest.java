@@ -236,7 +236,7 @@ public class ConfigurationLoaderTest extends AbstractPathTestSupport {
                 }, "An exception is expected");
         assertWithMessage("Invalid exception message")
             .that(exc.getMessage())
-            .isEqualTo("Multi thread mode for Checker module is not implemented");
+            .isEqualTo("Multi thread mode for TreeWalker module is not implemented");
     }
 
     @Test
@@ -27,7 +27,6 @@ import java.nio.file.Files;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.BitSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
@@ -41,6 +40,7 @@ import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 import com.puppycrawl.tools.checkstyle.internal.utils.TestUtil;
 import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
+import com.puppycrawl.tools.checkstyle.utils.TokenUtil;
 
 /**
  * TestCase to check DetailAST.
@@ -363,6 +363,23 @@ public class DetailAstImplTest extends AbstractModuleTestSupport {
                 .isFalse();
     }
 
+    @Test
+    public void testBranchContainsAny() {
+        final DetailAstImpl root = createToken(null, TokenTypes.CLASS_DEF);
+        final DetailAstImpl modifiers = createToken(root, TokenTypes.MODIFIERS);
+        createToken(modifiers, TokenTypes.LITERAL_PUBLIC);
+
+        assertWithMessage("invalid result")
+                .that(root.branchContainsAny(
+                        TokenUtil.asBitSet(TokenTypes.OBJBLOCK, TokenTypes.LITERAL_PUBLIC)
+                                .toLongArray()))
+                .isTrue();
+        assertWithMessage("invalid result")
+                .that(root.branchContainsAny(
+                        TokenUtil.asBitSet(TokenTypes.OBJBLOCK, TokenTypes.IDENT).toLongArray()))
+                .isFalse();
+    }
+
     private static DetailAstImpl createToken(DetailAstImpl root, int type) {
         final DetailAstImpl result = new DetailAstImpl();
         result.setType(type);
@@ -381,8 +398,6 @@ public class DetailAstImplTest extends AbstractModuleTestSupport {
         final List<Consumer<DetailAstImpl>> clearBranchTokenTypesMethods = Arrays.asList(
                 child::setFirstChild,
                 child::setNextSibling,
-                child::addPreviousSibling,
-                child::addNextSibling,
                 child::addChild,
             ast -> {
                 try {
@@ -396,11 +411,11 @@ public class DetailAstImplTest extends AbstractModuleTestSupport {
         );
 
         for (Consumer<DetailAstImpl> method : clearBranchTokenTypesMethods) {
-            final BitSet branchTokenTypes = TestUtil.invokeMethod(parent,
-                    "getBranchTokenTypes", BitSet.class);
+            final long[] branchTokenTypes = TestUtil.invokeMethod(parent,
+                    "getBranchTokenTypes", long[].class);
             method.accept(null);
-            final BitSet branchTokenTypes2 = TestUtil.invokeMethod(parent,
-                    "getBranchTokenTypes", BitSet.class);
+            final long[] branchTokenTypes2 = TestUtil.invokeMethod(parent,
+                    "getBranchTokenTypes", long[].class);
             assertWithMessage("Branch token types are not equal")
                 .that(branchTokenTypes)
                 .isEqualTo(branchTokenTypes2);
@@ -410,13 +425,117 @@ public class DetailAstImplTest extends AbstractModuleTestSupport {
         }
     }
 
+    @Test
+    public void testAddSiblingUpdatesBranchTokenTypes() {
+        final DetailAstImpl root = createToken(null, TokenTypes.CLASS_DEF);
+        final DetailAstImpl objBlock = createToken(root, TokenTypes.OBJBLOCK);
+        final DetailAstImpl rightCurly = createToken(objBlock, TokenTypes.RCURLY);
+        root.computeBranchTokenTypes();
+        final long[] branchTokenTypes = TestUtil.getInternalState(root, "branchTokenTypes",
+                long[].class);
+
+        rightCurly.addPreviousSibling(createToken(null, TokenTypes.BLOCK_COMMENT_BEGIN));
+        rightCurly.addNextSibling(createToken(null, TokenTypes.SINGLE_LINE_COMMENT));
+
+        assertWithMessage("Branch token types should be updated in place")
+                .that(TestUtil.getInternalState(root, "branchTokenTypes", long[].class))
+                .isSameInstanceAs(branchTokenTypes);
+        assertWithMessage("invalid result")
+                .that(root.branchContains(TokenTypes.BLOCK_COMMENT_BEGIN))
+                .isTrue();
+        assertWithMessage("invalid result")
+                .that(objBlock.branchContains(TokenTypes.SINGLE_LINE_COMMENT))
+                .isTrue();
+        assertWithMessage("invalid result")
+                .that(objBlock.branchContains(TokenTypes.CLASS_DEF))
+                .isFalse();
+    }
+
+    @Test
+    public void testBranchContainsInDeepConcatenation() {
+        final DetailAstImpl root = createToken(null, TokenTypes.EXPR);
+        DetailAstImpl node = root;
+        for (int level = 0; level < 100_000; level++) {
+            final DetailAstImpl plus = createToken(node, TokenTypes.PLUS);
+            createToken(node, TokenTypes.STRING_LITERAL);
+            node = plus;
+        }
+        createToken(node, TokenTypes.IDENT);
+
+        assertWithMessage("invalid result")
+                .that(root.branchContains(TokenTypes.IDENT))
+                .isTrue();
+        assertWithMessage("invalid result")
+                .that(root.branchContains(TokenTypes.METHOD_CALL))
+                .isFalse();
+
+        node.addChild(createToken(null, TokenTypes.METHOD_CALL));
+        assertWithMessage("invalid result")
+                .that(root.branchContains(TokenTypes.METHOD_CALL))
+                .isTrue();
+    }
+
+    @Test
+    public void testLeavesShareBranchTokenTypes() {
+        final DetailAstImpl root = createToken(null, TokenTypes.OBJBLOCK);
+        final DetailAstImpl firstSemi = createToken(root, TokenTypes.SEMI);
+        final DetailAstImpl secondSemi = createToken(root, TokenTypes.SEMI);
+        root.computeBranchTokenTypes();
+
+        assertWithMessage("Leaves of the same type should share branch token types")
+                .that(TestUtil.getInternalState(secondSemi, "branchTokenTypes", long[].class))
+                .isSameInstanceAs(TestUtil.getInternalState(firstSemi, "branchTokenTypes",
+                        long[].class));
+
+        firstSemi.addChild(createToken(null, TokenTypes.IDENT));
+        assertWithMessage("invalid result")
+                .that(firstSemi.branchContains(TokenTypes.IDENT))
+                .isTrue();
+        assertWithMessage("Shared branch token types should not be changed")
+                .that(secondSemi.branchContains(TokenTypes.IDENT))
+                .isFalse();
+        assertWithMessage("invalid result")
+                .that(root.branchContains(TokenTypes.IDENT))
+                .isTrue();
+    }
+
+    @Test
+    public void testComputeBranchTokenTypes() {
+        final DetailAstImpl root = createToken(null, TokenTypes.PACKAGE_DEF);
+        final DetailAstImpl dot = createToken(root, TokenTypes.DOT);
+        createToken(dot, TokenTypes.IDENT);
+        createToken(root, TokenTypes.SEMI);
+        final DetailAstImpl sibling = createToken(null, TokenTypes.CLASS_DEF);
+        createToken(sibling, TokenTypes.OBJBLOCK);
+        root.setNextSibling(sibling);
+
+        root.computeBranchTokenTypes();
+
+        assertWithMessage("Branch token types should be computed for the leaves")
+                .that(TestUtil.getInternalState(dot.getFirstChild(), "branchTokenTypes",
+                        long[].class))
+                .isNotNull();
+        assertWithMessage("Branch token types should be computed for the siblings")
+                .that(TestUtil.getInternalState(sibling, "branchTokenTypes", long[].class))
+                .isNotNull();
+        assertWithMessage("invalid result")
+                .that(root.branchContains(TokenTypes.IDENT))
+                .isTrue();
+        assertWithMessage("invalid result")
+                .that(root.branchContains(TokenTypes.OBJBLOCK))
+                .isFalse();
+        assertWithMessage("invalid result")
+                .that(sibling.branchContains(TokenTypes.OBJBLOCK))
+                .isTrue();
+    }
+
     @Test
     public void testCacheBranchTokenTypes() {
         final DetailAST root = new DetailAstImpl();
-        final BitSet bitSet = new BitSet();
-        bitSet.set(999);
+        final long[] branchTokenTypes = new long[999 / Long.SIZE + 1];
+        branchTokenTypes[999 / Long.SIZE] = 1L << 999;
 
-        TestUtil.setInternalState(root, "branchTokenTypes", bitSet);
+        TestUtil.setInternalState(root, "branchTokenTypes", branchTokenTypes);
         assertWithMessage("Branch tokens has changed")
                 .that(root.branchContains(999))
                 .isTrue();
@@ -562,6 +681,72 @@ public class DetailAstImplTest extends AbstractModuleTestSupport {
                 .isEqualTo(sibling);
     }
 
+    @Test
+    public void testCopyTree() {
+        final DetailAstImpl root = new DetailAstImpl();
+        root.initialize(TokenTypes.CLASS_DEF, "CLASS_DEF");
+        final DetailAstImpl first = new DetailAstImpl();
+        first.initialize(TokenTypes.IDENT, "A");
+        first.setLineNo(1);
+        first.setColumnNo(2);
+        final DetailAstImpl second = new DetailAstImpl();
+        second.initialize(TokenTypes.OBJBLOCK, "OBJBLOCK");
+        root.addChild(first);
+        root.addChild(second);
+
+        final DetailAstImpl copy = root.copyTree();
+        assertWithMessage("Copy should be a new node")
+                .that(copy)
+                .isNotSameInstanceAs(root);
+        assertWithMessage("Invalid copy of the tree")
+                .that(copy.toString() + copy.getFirstChild() + copy.getLastChild())
+                .isEqualTo(root.toString() + first + second);
+        assertWithMessage("Invalid number of children in copy")
+                .that(copy.getChildCount())
+                .isEqualTo(2);
+        assertWithMessage("Invalid parent of copied child")
+                .that(copy.getLastChild().getParent())
+                .isSameInstanceAs(copy);
+        assertWithMessage("Invalid previous sibling of copied child")
+                .that(copy.getLastChild().getPreviousSibling())
+                .isSameInstanceAs(copy.getFirstChild());
+
+        copy.getFirstChild().addPreviousSibling(new DetailAstImpl());
+        assertWithMessage("Changing the copy should not change the tree")
+                .that(root.getChildCount())
+                .isEqualTo(2);
+    }
+
+    @Test
+    public void testCopyTreeOfDeepConcatenation() {
+        final DetailAstImpl root = new DetailAstImpl();
+        root.initialize(TokenTypes.EXPR, "EXPR");
+        DetailAstImpl node = root;
+        final int depth = 100_000;
+        for (int level = 0; level < depth; level++) {
+            final DetailAstImpl plus = new DetailAstImpl();
+            plus.initialize(TokenTypes.PLUS, "+");
+            final DetailAstImpl literal = new DetailAstImpl();
+            literal.initialize(TokenTypes.STRING_LITERAL, "\"a\"");
+            node.addChild(plus);
+            node.addChild(literal);
+            node = plus;
+        }
+
+        DetailAstImpl copy = root.copyTree();
+        int copyDepth = 0;
+        while (copy.getFirstChild() != null) {
+            assertWithMessage("Invalid sibling of copied child")
+                    .that(copy.getLastChild().getText())
+                    .isEqualTo("\"a\"");
+            copy = copy.getFirstChild();
+            copyDepth++;
+        }
+        assertWithMessage("Copy should have the depth of the tree")
+                .that(copyDepth)
+                .isEqualTo(depth);
+    }
+
     @Test
     public void testAddNextSiblingNullParent() {
         final DetailAstImpl child = new DetailAstImpl();
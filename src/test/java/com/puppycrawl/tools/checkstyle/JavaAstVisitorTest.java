@@ -303,4 +303,24 @@ public class JavaAstVisitorTest extends AbstractModuleTestSupport {
                 .isNotNull();
     }
 
+    @Test
+    public void testLiteralTokensShareText() throws Exception {
+        final FileText fileText = new FileText(new File("InputLiteralTokens.java"),
+                List.of("class A {", "}", "class B {", "}"));
+        final DetailAST root = JavaParser.parse(new FileContents(fileText));
+        final DetailAST firstClass = root.findFirstToken(TokenTypes.LITERAL_CLASS);
+        final DetailAST secondClass = root.getNextSibling()
+                .findFirstToken(TokenTypes.LITERAL_CLASS);
+
+        assertWithMessage("Invalid text")
+                .that(firstClass.getText())
+                .isEqualTo("class");
+        assertWithMessage("Nodes of the same keyword should share the text")
+                .that(secondClass.getText())
+                .isSameInstanceAs(firstClass.getText());
+        assertWithMessage("Invalid text")
+                .that(root.findFirstToken(TokenTypes.IDENT).getText())
+                .isEqualTo("A");
+    }
+
 }
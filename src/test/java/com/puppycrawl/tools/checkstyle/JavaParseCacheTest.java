@@ -0,0 +1,160 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2026 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+import static com.puppycrawl.tools.checkstyle.internal.utils.TestUtil.getExpectedThrowable;
+
+import java.io.File;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+import com.puppycrawl.tools.checkstyle.internal.utils.TestUtil;
+
+public class JavaParseCacheTest {
+
+    @AfterEach
+    public void tearDown() {
+        JavaParseCache.close();
+    }
+
+    @Test
+    public void testSharedInstanceParsesOnce() throws Exception {
+        final FileText text = new FileText(new File("Test.java"),
+                List.of("class Test { // comment", "}"));
+        JavaParseCache.open(text);
+        final JavaParseCache first = JavaParseCache.get(text, new FileContents(text));
+        final JavaParseCache second = JavaParseCache.get(text, new FileContents(text));
+
+        assertWithMessage("Instance should be shared for the same file")
+                .that(second)
+                .isSameInstanceAs(first);
+        assertWithMessage("File should be parsed once")
+                .that(second.getAst())
+                .isSameInstanceAs(first.getAst());
+        assertWithMessage("Comments should be reported to the shared contents")
+                .that(first.getContents().getSingleLineComments())
+                .hasSize(1);
+
+        final DetailAST astWithComments = first.getAstWithComments();
+        assertWithMessage("AST with comments should be built once")
+                .that(second.getAstWithComments())
+                .isSameInstanceAs(astWithComments);
+        assertWithMessage("AST with comments should be a copy of the AST")
+                .that(astWithComments)
+                .isNotSameInstanceAs(first.getAst());
+        assertWithMessage("AST with comments should contain comment nodes")
+                .that(TestUtil.findTokenInAstByPredicate(astWithComments,
+                        ast -> ast.getType() == TokenTypes.SINGLE_LINE_COMMENT).isPresent())
+                .isTrue();
+        assertWithMessage("AST should not contain comment nodes")
+                .that(TestUtil.findTokenInAstByPredicate(first.getAst(),
+                        ast -> ast.getType() == TokenTypes.SINGLE_LINE_COMMENT).isPresent())
+                .isFalse();
+    }
+
+    @Test
+    public void testInstanceIsNotSharedForOtherFile() throws Exception {
+        final FileText text = new FileText(new File("Test.java"), List.of("class Test {}"));
+        final FileText otherText = new FileText(new File("Other.java"), List.of("class Test {}"));
+        JavaParseCache.open(text);
+        final FileContents contents = new FileContents(otherText);
+        final JavaParseCache cache = JavaParseCache.get(otherText, contents);
+
+        assertWithMessage("Instance should not be shared for other file")
+                .that(cache)
+                .isNotSameInstanceAs(JavaParseCache.get(text, new FileContents(text)));
+        assertWithMessage("Instance should use the given contents")
+                .that(cache.getContents())
+                .isSameInstanceAs(contents);
+        assertWithMessage("AST of not shared instance should get comment nodes")
+                .that(cache.getAstWithComments())
+                .isSameInstanceAs(cache.getAst());
+    }
+
+    @Test
+    public void testInstanceIsSharedForCopyOfText() throws Exception {
+        final FileText text = new FileText(new File("Test.java"), List.of("class Test {}"));
+        JavaParseCache.open(text);
+        final FileText copy = new FileText(text);
+
+        assertWithMessage("Instance should be shared for a copy of the text of the file")
+                .that(JavaParseCache.get(copy, new FileContents(copy)))
+                .isSameInstanceAs(JavaParseCache.get(text, new FileContents(text)));
+
+        final FileText changedText =
+                new FileText(new File("Test.java"), List.of("class Changed {}"));
+        assertWithMessage("Instance should not be shared for other text of the file")
+                .that(JavaParseCache.get(changedText, new FileContents(changedText)))
+                .isNotSameInstanceAs(JavaParseCache.get(text, new FileContents(text)));
+    }
+
+    @Test
+    public void testParseExceptionIsThrownOnEveryCall() {
+        final FileText text = new FileText(new File("Test.java"), List.of("class Test {"));
+        JavaParseCache.open(text);
+        final JavaParseCache cache = JavaParseCache.get(text, new FileContents(text));
+
+        final CheckstyleException first = getExpectedThrowable(CheckstyleException.class,
+                cache::getAst, "Exception is expected");
+        final CheckstyleException second = getExpectedThrowable(CheckstyleException.class,
+                cache::getAstWithComments, "Exception is expected");
+        assertWithMessage("Same exception should be thrown")
+                .that(second)
+                .isSameInstanceAs(first);
+    }
+
+    @Test
+    public void testEmptyFile() throws Exception {
+        final FileText text = new FileText(new File("Test.java"), List.of("// comment"));
+        JavaParseCache.open(text);
+        final JavaParseCache cache = JavaParseCache.get(text, new FileContents(text));
+
+        assertWithMessage("AST of file without code should be null")
+                .that(cache.getAstWithComments())
+                .isNull();
+    }
+
+    @Test
+    public void testParsedAheadInstanceIsShared() throws Exception {
+        final FileText text = new FileText(new File("Test.java"), List.of("class Test {"));
+        final JavaParseCache parsed = JavaParseCache.parseAhead(text);
+        JavaParseCache.open(parsed);
+
+        assertWithMessage("Instance parsed ahead should be shared for the same file")
+                .that(JavaParseCache.get(text, new FileContents(text)))
+                .isSameInstanceAs(parsed);
+        final CheckstyleException first = getExpectedThrowable(CheckstyleException.class,
+                parsed::getAst, "Exception is expected");
+        final CheckstyleException second = getExpectedThrowable(CheckstyleException.class,
+                parsed::getAst, "Exception is expected");
+        assertWithMessage("Exception of the parser should be kept")
+                .that(second)
+                .isSameInstanceAs(first);
+    }
+
+}
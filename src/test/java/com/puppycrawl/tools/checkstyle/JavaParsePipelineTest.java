@@ -0,0 +1,104 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2026 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class JavaParsePipelineTest {
+
+    @TempDir
+    public File temporaryFolder;
+
+    @Test
+    public void testFilesAreParsedAhead() throws Exception {
+        final List<File> files = new ArrayList<>();
+        for (int index = 0; index < 5; index++) {
+            final File file = new File(temporaryFolder, "Test" + index + ".java");
+            Files.writeString(file.toPath(), "class Test" + index + " {}\n");
+            files.add(file);
+        }
+        final List<File> lookedUp = new ArrayList<>();
+        final List<File> filtered = new ArrayList<>();
+        try (JavaParsePipeline pipeline = new JavaParsePipeline(files, file -> {
+            lookedUp.add(file);
+            return file.getName().startsWith("Test2");
+        }, file -> {
+            filtered.add(file);
+            return !file.getName().startsWith("Test1");
+        }, StandardCharsets.UTF_8.name(), 1, 2)) {
+            final JavaParseCache first = pipeline.next().getParseCache();
+            assertWithMessage("Files should be parsed ahead up to the limit")
+                    .that(lookedUp)
+                    .containsExactly(files.get(0), files.get(1), files.get(2))
+                    .inOrder();
+            assertWithMessage("Parsed file should hold the text of the file")
+                    .that(first.getContents().getText().getFile())
+                    .isEqualTo(files.get(0).getAbsoluteFile());
+            assertWithMessage("File should be parsed")
+                    .that(first.getAst())
+                    .isNotNull();
+
+            assertWithMessage("File rejected by the filter should not be parsed")
+                    .that(pipeline.next().getParseCache())
+                    .isNull();
+            assertWithMessage("Files should be looked up in the cache once")
+                    .that(lookedUp)
+                    .containsExactly(files.get(0), files.get(1), files.get(2), files.get(3))
+                    .inOrder();
+            assertWithMessage("Cached file should not be filtered")
+                    .that(filtered)
+                    .containsExactly(files.get(0), files.get(1), files.get(3))
+                    .inOrder();
+
+            final JavaParsePipeline.Entry cached = pipeline.next();
+            assertWithMessage("File should be in the cache")
+                    .that(cached.isInCache())
+                    .isTrue();
+            assertWithMessage("Cached file should not be parsed")
+                    .that(cached.getParseCache())
+                    .isNull();
+        }
+    }
+
+    @Test
+    public void testUnreadableFileIsNotParsed() throws Exception {
+        final List<File> files = List.of(new File(temporaryFolder, "Missing.java"));
+        try (JavaParsePipeline pipeline = new JavaParsePipeline(files, file -> false,
+                file -> true, StandardCharsets.UTF_8.name(), 1, 1)) {
+            final JavaParsePipeline.Entry entry = pipeline.next();
+            assertWithMessage("File should not be in the cache")
+                    .that(entry.isInCache())
+                    .isFalse();
+            assertWithMessage("File which can not be read should be read by the caller")
+                    .that(entry.getParseCache())
+                    .isNull();
+        }
+    }
+
+}
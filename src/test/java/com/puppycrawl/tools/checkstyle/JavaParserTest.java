@@ -230,6 +230,39 @@ public class JavaParserTest extends AbstractModuleTestSupport {
             .isEqualTo(Arrays.asList("5,4", "8,0"));
     }
 
+    @Test
+    public void testAppendHiddenCommentNodesCollectsNodesInWalkOrder() throws Exception {
+        final List<DetailAST> expected = new ArrayList<>();
+        final List<DetailAST> commentNodes = new ArrayList<>();
+        for (String fileName : List.of("InputJavaParserHiddenComments.java",
+                "InputJavaParserHiddenComments3.java")) {
+            final DetailAST root = JavaParser.appendHiddenCommentNodes(
+                JavaParser.parseFile(new File(getPath(fileName)),
+                    JavaParser.Options.WITHOUT_COMMENTS),
+                commentNodes);
+            collectCommentNodes(root, expected);
+        }
+
+        assertWithMessage("Comment nodes should be collected")
+            .that(commentNodes)
+            .isNotEmpty();
+        assertWithMessage("Invalid comment nodes")
+            .that(commentNodes)
+            .containsExactlyElementsIn(expected)
+            .inOrder();
+    }
+
+    @Test
+    public void testLimitDfaSize() {
+        final int dfaStateLimit = 10;
+        assertWithMessage("DFA within the limit should be kept")
+            .that(JavaParser.limitDfaSize(dfaStateLimit, () -> dfaStateLimit))
+            .isFalse();
+        assertWithMessage("DFA above the limit should be cleared")
+            .that(JavaParser.limitDfaSize(dfaStateLimit, () -> dfaStateLimit + 1))
+            .isTrue();
+    }
+
     @Test
     public void testJava14TextBlocks() throws Exception {
         final DetailAST root =
@@ -422,6 +455,16 @@ public class JavaParserTest extends AbstractModuleTestSupport {
                 getPath("InputJavaParserHiddenComments4.java"), expected);
     }
 
+    private static void collectCommentNodes(DetailAST root, List<DetailAST> commentNodes) {
+        for (DetailAST ast = root; ast != null; ast = ast.getNextSibling()) {
+            if (ast.getType() == TokenTypes.SINGLE_LINE_COMMENT
+                    || ast.getType() == TokenTypes.BLOCK_COMMENT_BEGIN) {
+                commentNodes.add(ast);
+            }
+            collectCommentNodes(ast.getFirstChild(), commentNodes);
+        }
+    }
+
     private static final class CountComments {
         private final List<String> lineComments = new ArrayList<>();
         private final List<String> blockComments = new ArrayList<>();
@@ -0,0 +1,59 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2026 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+import static com.puppycrawl.tools.checkstyle.internal.utils.TestUtil.getExpectedThrowable;
+
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.api.JavadocCommentsTokenTypes;
+import com.puppycrawl.tools.checkstyle.checks.javadoc.JavadocParagraphCheck;
+
+public class JavadocCheckAccessorTest {
+
+    @Test
+    public void testInstanceIsSetByJavadocChecks() {
+        final JavadocParagraphCheck check = new JavadocParagraphCheck();
+        check.setJavadocTokens("NEWLINE");
+
+        assertWithMessage("Accessor should be set once a javadoc check is created")
+                .that(JavadocCheckAccessor.getInstance())
+                .isNotNull();
+        assertWithMessage("Accessor should give the javadoc tokens of the check")
+                .that(JavadocCheckAccessor.getInstance().getJavadocTokens(check))
+                .containsExactly(JavadocCommentsTokenTypes.NEWLINE);
+    }
+
+    @Test
+    public void testInstanceIsSetOnce() {
+        assertWithMessage("Javadoc check should be created")
+                .that(new JavadocParagraphCheck())
+                .isNotNull();
+        final JavadocCheckAccessor accessor = JavadocCheckAccessor.getInstance();
+        final IllegalStateException exception = getExpectedThrowable(
+                IllegalStateException.class,
+                () -> JavadocCheckAccessor.setInstance(accessor));
+        assertWithMessage("Invalid exception message")
+                .that(exception.getMessage())
+                .isEqualTo("Javadoc check accessor is already set");
+    }
+
+}
@@ -76,7 +76,7 @@ public class MainTest {
             + "Try 'checkstyle --help' for more information.%n");
 
     private static final String USAGE = String.format(Locale.ROOT,
-          "Usage: checkstyle [-dEgGhjJtTV] [-b=<xpath>] [-c=<configurationFile>] "
+          "Usage: checkstyle [-dEgGhjJStTV] [-b=<xpath>] [-c=<configurationFile>] "
                   + "[-f=<format>]%n"
                   + "                  [-o=<outputPath>] [-p=<propertiesFile>] "
                   + "[-s=<suppressionLineColumnNumber>]%n"
@@ -168,6 +168,13 @@ public class MainTest {
                   + " but might result in%n"
                   + "                              undesirable matching and suppress other"
                   + " issues.%n"
+                  + "  -S, --sarif-streaming     Writes each result of the SARIF output format"
+                  + " as soon as it is%n"
+                  + "                              reported, so the memory used by the report"
+                  + " does not grow with the%n"
+                  + "                              number of violations. The results are written"
+                  + " before the rules. Used%n"
+                  + "                              only with -f sarif option.%n"
                   + "  -t, --tree                This option is used to display the Abstract"
                   + " Syntax Tree (AST) without%n"
                   + "                              any comments of the specified file. It can"
@@ -471,6 +478,34 @@ public class MainTest {
             .isEqualTo("");
     }
 
+    @Test
+    public void testExistingTargetFileSarifOutput(@SysErr Capturable systemErr,
+            @SysOut Capturable systemOut) {
+        assertMainReturnCode(0, "-c", getPath("InputMainConfig-classname.xml"), "-f", "sarif",
+                getPath("InputMain.java"));
+        final String output = systemOut.getCapturedData();
+        assertWithMessage("Results should be written after the tool by default")
+            .that(output.indexOf("\"results\""))
+            .isGreaterThan(output.indexOf("\"tool\""));
+        assertWithMessage("Unexpected system error log")
+            .that(systemErr.getCapturedData())
+            .isEqualTo("");
+    }
+
+    @Test
+    public void testExistingTargetFileSarifStreamingOutput(@SysErr Capturable systemErr,
+            @SysOut Capturable systemOut) {
+        assertMainReturnCode(0, "-c", getPath("InputMainConfig-classname.xml"), "-f", "sarif",
+                "--sarif-streaming", getPath("InputMain.java"));
+        final String output = systemOut.getCapturedData();
+        assertWithMessage("Results should be streamed before the tool")
+            .that(output.indexOf("\"results\""))
+            .isLessThan(output.indexOf("\"tool\""));
+        assertWithMessage("Unexpected system error log")
+            .that(systemErr.getCapturedData())
+            .isEqualTo("");
+    }
+
     /**
      * This test method is created only to cover
      * pitest mutation survival at {@code Main#getOutputStreamOptions}.
@@ -33,8 +33,10 @@ import java.io.ObjectOutputStream;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -58,6 +60,8 @@ import com.google.common.io.BaseEncoding;
 import com.google.common.io.ByteStreams;
 import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
 import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+import com.puppycrawl.tools.checkstyle.api.Violation;
 import com.puppycrawl.tools.checkstyle.internal.utils.TestUtil;
 import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
 
@@ -110,6 +114,357 @@ public class PropertyCacheFileTest extends AbstractPathTestSupport {
                 .isFalse();
     }
 
+    @Test
+    public void testInCacheByContentHash() throws IOException {
+        final Configuration config = new DefaultConfiguration("myName");
+        final File cacheFile = new File(temporaryFolder, "junit_" + UUID.randomUUID() + ".cache");
+        final File checkedFile = new File(temporaryFolder, "file_" + UUID.randomUUID() + ".java");
+        Files.writeString(checkedFile.toPath(), "class A {}");
+        final String checkedFileName = checkedFile.getPath();
+        final PropertyCacheFile cache = new PropertyCacheFile(config, cacheFile.getPath());
+        cache.setContentHashEnabled(true);
+        cache.load();
+        assertWithMessage("Should return false when file is not in cache")
+                .that(cache.isInCache(checkedFileName, 1))
+                .isFalse();
+        cache.put(checkedFileName, 1);
+
+        assertWithMessage("Should return true when file content did not change")
+                .that(cache.isInCache(checkedFileName, 2))
+                .isTrue();
+        assertWithMessage("Timestamp should be updated when file is found by content")
+                .that(cache.get(checkedFileName))
+                .isEqualTo("2");
+
+        Files.writeString(checkedFile.toPath(), "class B {}");
+        assertWithMessage("Should return false when file content changed")
+                .that(cache.isInCache(checkedFileName, 3))
+                .isFalse();
+        assertWithMessage("Should return false when file is not in cache")
+                .that(cache.isInCache("fileDoesNotExist.java", 3))
+                .isFalse();
+    }
+
+    @Test
+    public void testContentHashIsOfContentBeforeCheck() throws IOException {
+        final Configuration config = new DefaultConfiguration("myName");
+        final File cacheFile = new File(temporaryFolder, "junit_" + UUID.randomUUID() + ".cache");
+        final File checkedFile = new File(temporaryFolder, "file_" + UUID.randomUUID() + ".java");
+        Files.writeString(checkedFile.toPath(), "class A {}");
+        final String checkedFileName = checkedFile.getPath();
+        final PropertyCacheFile cache = new PropertyCacheFile(config, cacheFile.getPath());
+        cache.setContentHashEnabled(true);
+        cache.load();
+        cache.isInCache(checkedFileName, 1);
+        // the file is changed while it is checked
+        Files.writeString(checkedFile.toPath(), "class B {}");
+        cache.put(checkedFileName, 1);
+
+        assertWithMessage("Should return false when file changed after it was looked up")
+                .that(cache.isInCache(checkedFileName, 2))
+                .isFalse();
+    }
+
+    @Test
+    public void testContentHashOfFileNotLookedUp() throws IOException {
+        final Configuration config = new DefaultConfiguration("myName");
+        final File cacheFile = new File(temporaryFolder, "junit_" + UUID.randomUUID() + ".cache");
+        final File checkedFile = new File(temporaryFolder, "file_" + UUID.randomUUID() + ".java");
+        Files.writeString(checkedFile.toPath(), "class A {}");
+        final String checkedFileName = checkedFile.getPath();
+        final PropertyCacheFile cache = new PropertyCacheFile(config, cacheFile.getPath());
+        cache.setContentHashEnabled(true);
+        cache.load();
+        cache.put(checkedFileName, 1);
+
+        assertWithMessage("Should return true when timestamp is the same")
+                .that(cache.isInCache(checkedFileName, 1))
+                .isTrue();
+        assertWithMessage("Should return false when file has no content hash")
+                .that(cache.isInCache(checkedFileName, 2))
+                .isFalse();
+    }
+
+    @Test
+    public void testContentHashOfUnreadableFile() throws IOException {
+        final Configuration config = new DefaultConfiguration("myName");
+        final File cacheFile = new File(temporaryFolder, "junit_" + UUID.randomUUID() + ".cache");
+        final PropertyCacheFile cache = new PropertyCacheFile(config, cacheFile.getPath());
+        cache.setContentHashEnabled(true);
+        cache.load();
+        cache.put("fileDoesNotExist.java", 1);
+
+        assertWithMessage("Should return true when timestamp is the same")
+                .that(cache.isInCache("fileDoesNotExist.java", 1))
+                .isTrue();
+        assertWithMessage("Should return false when file can not be read")
+                .that(cache.isInCache("fileDoesNotExist.java", 2))
+                .isFalse();
+    }
+
+    @Test
+    public void testPersistAndLoadBinaryFormat() throws IOException {
+        final Configuration config = new DefaultConfiguration("myName");
+        final File cacheFile = new File(temporaryFolder, "junit_" + UUID.randomUUID() + ".cache");
+        final File checkedFile = new File(temporaryFolder, "file_" + UUID.randomUUID() + ".java");
+        Files.writeString(checkedFile.toPath(), "class A {}");
+        final String checkedFileName = checkedFile.getPath();
+        final PropertyCacheFile cache = new PropertyCacheFile(config, cacheFile.getPath());
+        cache.setContentHashEnabled(true);
+        cache.load();
+        cache.isInCache(checkedFileName, 1);
+        cache.put(checkedFileName, 1);
+        cache.persist();
+
+        final byte[] content = Files.readAllBytes(cacheFile.toPath());
+        assertWithMessage("Cache should be stored in binary format")
+                .that(Arrays.copyOf(content, 4))
+                .isEqualTo(new byte[] {0x43, 0x53, 0x43, 0x48});
+
+        final PropertyCacheFile loadedCache =
+                new PropertyCacheFile(config, cacheFile.getPath());
+        loadedCache.setContentHashEnabled(true);
+        loadedCache.load();
+        assertWithMessage("Invalid config hash key")
+                .that(loadedCache.get(PropertyCacheFile.CONFIG_HASH_KEY))
+                .isEqualTo(cache.get(PropertyCacheFile.CONFIG_HASH_KEY));
+        assertWithMessage("Should return true when file content did not change")
+                .that(loadedCache.isInCache(checkedFileName, 2))
+                .isTrue();
+    }
+
+    @Test
+    public void testPutAndGetViolations() throws IOException {
+        final Configuration config = new DefaultConfiguration("myName");
+        final File cacheFile = new File(temporaryFolder, "junit_" + UUID.randomUUID() + ".cache");
+        final PropertyCacheFile cache = new PropertyCacheFile(config, cacheFile.getPath());
+        cache.setContentHashEnabled(true);
+        cache.load();
+        final Violation violation = new Violation(2, 3, 4, 5, Definitions.CHECKSTYLE_BUNDLE,
+                "general.exception", new String[] {"'quoted' {0}"}, SeverityLevel.WARNING,
+                null, Checker.class, null);
+        cache.put("myFile", 1);
+        cache.putViolations("myFile", List.of(violation));
+        cache.persist();
+
+        final PropertyCacheFile loadedCache = new PropertyCacheFile(config, cacheFile.getPath());
+        loadedCache.load();
+        final List<Violation> violations =
+                loadedCache.getViolations("myFile", getClass().getClassLoader());
+        assertWithMessage("Invalid number of cached violations")
+                .that(violations)
+                .hasSize(1);
+        final Violation cachedViolation = violations.getFirst();
+        assertWithMessage("Invalid cached violation")
+                .that(List.of(cachedViolation.getLineNo(), cachedViolation.getColumnNo(),
+                        cachedViolation.getColumnCharIndex(), cachedViolation.getTokenType()))
+                .containsExactly(2, 3, 4, 5)
+                .inOrder();
+        assertWithMessage("Invalid severity of cached violation")
+                .that(cachedViolation.getSeverityLevel())
+                .isEqualTo(SeverityLevel.WARNING);
+        assertWithMessage("Invalid module id of cached violation")
+                .that(cachedViolation.getModuleId())
+                .isNull();
+        assertWithMessage("Invalid key of cached violation")
+                .that(cachedViolation.getKey())
+                .isEqualTo("general.exception");
+        assertWithMessage("Invalid source of cached violation")
+                .that(cachedViolation.getSourceName())
+                .isEqualTo(Checker.class.getName());
+        assertWithMessage("Invalid message of cached violation")
+                .that(cachedViolation.getViolation())
+                .isEqualTo(violation.getViolation());
+
+        loadedCache.put("myFile", 2);
+        assertWithMessage("Violations should be removed when the file is checked again")
+                .that(loadedCache.getViolations("myFile", getClass().getClassLoader()))
+                .isEmpty();
+    }
+
+    @Test
+    public void testGetViolationsOfUnknownSource() {
+        final Configuration config = new DefaultConfiguration("myName");
+        final PropertyCacheFile cache = new PropertyCacheFile(config, "fileDoesNotExist.txt");
+        cache.put("myFile", 1);
+        cache.putViolations("myFile", List.of(new Violation(1, Definitions.CHECKSTYLE_BUNDLE,
+                "key", null, "myId", Checker.class, "message")));
+
+        final ClassLoader emptyClassLoader = new ClassLoader(null) {
+        };
+        assertWithMessage("Violations with unknown source should not be restored")
+                .that(cache.getViolations("myFile", emptyClassLoader))
+                .isNull();
+
+        cache.remove("myFile");
+        assertWithMessage("Violations should be removed with the file")
+                .that(cache.getViolations("myFile", getClass().getClassLoader()))
+                .isEmpty();
+    }
+
+    @Test
+    public void testCacheDirectoryIsSharedByCaches() throws IOException {
+        final Configuration config = new DefaultConfiguration("myName");
+        final File cacheDirectory = new File(temporaryFolder, "shared");
+        final File checkedFile = new File(temporaryFolder, "file_" + UUID.randomUUID() + ".java");
+        Files.writeString(checkedFile.toPath(), "class A {}");
+        final String checkedFileName = checkedFile.getPath();
+
+        final PropertyCacheFile firstCache = new PropertyCacheFile(config,
+                new File(temporaryFolder, "first_" + UUID.randomUUID()).getPath());
+        firstCache.setCacheDirectory(cacheDirectory.getPath(), 0);
+        firstCache.setBasedir(temporaryFolder.getPath());
+        firstCache.load();
+        firstCache.isInCache(checkedFileName, 1);
+        firstCache.put(checkedFileName, 1);
+        firstCache.putViolations(checkedFileName, List.of(new Violation(1,
+                Definitions.CHECKSTYLE_BUNDLE, "key", null, "myId", Checker.class, "message")));
+        firstCache.persist();
+
+        final PropertyCacheFile secondCache = new PropertyCacheFile(config,
+                new File(temporaryFolder, "second_" + UUID.randomUUID()).getPath());
+        secondCache.setCacheDirectory(cacheDirectory.getPath(), 0);
+        secondCache.setBasedir(temporaryFolder.getPath());
+        secondCache.load();
+        assertWithMessage("Should return true when file is in cache directory")
+                .that(secondCache.isInCache(checkedFileName, 2))
+                .isTrue();
+        assertWithMessage("Should return the timestamp of the file")
+                .that(secondCache.get(checkedFileName))
+                .isEqualTo("2");
+        assertWithMessage("Should return the violations from cache directory")
+                .that(secondCache.getViolations(checkedFileName, getClass().getClassLoader()))
+                .hasSize(1);
+
+        Files.writeString(checkedFile.toPath(), "class B {}");
+        assertWithMessage("Should return false when file content changed")
+                .that(secondCache.isInCache(checkedFileName, 3))
+                .isFalse();
+    }
+
+    @Test
+    public void testCacheDirectoryEntryDependsOnLocaleAndExternalResources()
+            throws IOException {
+        final Configuration config = new DefaultConfiguration("myName");
+        final File cacheDirectory = new File(temporaryFolder, "shared");
+        final File checkedFile = new File(temporaryFolder, "file_" + UUID.randomUUID() + ".java");
+        Files.writeString(checkedFile.toPath(), "class A {}");
+        final String checkedFileName = checkedFile.getPath();
+        final File resource = new File(temporaryFolder, "resource_" + UUID.randomUUID());
+        Files.writeString(resource.toPath(), "first");
+        LocalizedMessage.setLocale(Locale.ENGLISH);
+
+        final PropertyCacheFile firstCache = new PropertyCacheFile(config,
+                new File(temporaryFolder, "first_" + UUID.randomUUID()).getPath());
+        firstCache.setCacheDirectory(cacheDirectory.getPath(), 0);
+        firstCache.load();
+        firstCache.putExternalResources(Set.of(resource.getPath()));
+        firstCache.isInCache(checkedFileName, 1);
+        firstCache.put(checkedFileName, 1);
+        firstCache.persist();
+
+        final PropertyCacheFile secondCache = new PropertyCacheFile(config,
+                new File(temporaryFolder, "second_" + UUID.randomUUID()).getPath());
+        secondCache.setCacheDirectory(cacheDirectory.getPath(), 0);
+        secondCache.load();
+        secondCache.putExternalResources(Set.of(resource.getPath()));
+        try {
+            LocalizedMessage.setLocale(Locale.FRENCH);
+            assertWithMessage("Should return false when messages are in another language")
+                    .that(secondCache.isInCache(checkedFileName, 2))
+                    .isFalse();
+        }
+        finally {
+            LocalizedMessage.setLocale(Locale.ENGLISH);
+        }
+        assertWithMessage("Should return true when messages are in the same language")
+                .that(secondCache.isInCache(checkedFileName, 2))
+                .isTrue();
+
+        secondCache.reset();
+        Files.writeString(resource.toPath(), "second");
+        secondCache.putExternalResources(Set.of(resource.getPath()));
+        assertWithMessage("Should return false when external resource changed")
+                .that(secondCache.isInCache(checkedFileName, 3))
+                .isFalse();
+    }
+
+    @Test
+    public void testCacheDirectoryEntryIsOfContentBeforeCheck() throws IOException {
+        final Configuration config = new DefaultConfiguration("myName");
+        final File cacheDirectory = new File(temporaryFolder, "shared");
+        final File checkedFile = new File(temporaryFolder, "file_" + UUID.randomUUID() + ".java");
+        Files.writeString(checkedFile.toPath(), "class A {}");
+        final String checkedFileName = checkedFile.getPath();
+
+        final PropertyCacheFile firstCache = new PropertyCacheFile(config,
+                new File(temporaryFolder, "first_" + UUID.randomUUID()).getPath());
+        firstCache.setCacheDirectory(cacheDirectory.getPath(), 0);
+        firstCache.load();
+        firstCache.isInCache(checkedFileName, 1);
+        // the file is changed while it is checked
+        Files.writeString(checkedFile.toPath(), "class B {}");
+        firstCache.put(checkedFileName, 1);
+        firstCache.persist();
+
+        final PropertyCacheFile secondCache = new PropertyCacheFile(config,
+                new File(temporaryFolder, "second_" + UUID.randomUUID()).getPath());
+        secondCache.setCacheDirectory(cacheDirectory.getPath(), 0);
+        secondCache.load();
+        assertWithMessage("Should return false when file changed after it was looked up")
+                .that(secondCache.isInCache(checkedFileName, 2))
+                .isFalse();
+        Files.writeString(checkedFile.toPath(), "class A {}");
+        assertWithMessage("Should return true for the content which was looked up")
+                .that(secondCache.isInCache(checkedFileName, 3))
+                .isTrue();
+    }
+
+    @Test
+    public void testCacheDirectoryEvictsLeastRecentlyUsedEntries() throws IOException {
+        final Configuration config = new DefaultConfiguration("myName");
+        final File cacheDirectory = new File(temporaryFolder, "shared");
+        final PropertyCacheFile cache = new PropertyCacheFile(config,
+                new File(temporaryFolder, "junit_" + UUID.randomUUID()).getPath());
+        // the entries of checked ok files are empty, so any limit keeps one entry only
+        cache.setCacheDirectory(cacheDirectory.getPath(), 1);
+        cache.load();
+        final Path stale = cacheDirectory.toPath().resolve("ab").resolve("abc");
+        Files.createDirectories(stale.getParent());
+        Files.writeString(stale, "stale");
+        Files.setLastModifiedTime(stale, FileTime.fromMillis(0));
+        final File checkedFile = new File(temporaryFolder, "file_" + UUID.randomUUID() + ".java");
+        Files.writeString(checkedFile.toPath(), "class A {}");
+        cache.isInCache(checkedFile.getPath(), 1);
+        cache.put(checkedFile.getPath(), 1);
+        cache.persist();
+
+        final List<Path> entries;
+        try (Stream<Path> paths = Files.walk(cacheDirectory.toPath())) {
+            entries = paths.filter(Files::isRegularFile).toList();
+        }
+        assertWithMessage("Least recently used entry should be removed")
+                .that(entries)
+                .hasSize(1);
+        assertWithMessage("Entry should be empty for file without violations")
+                .that(Files.size(entries.getFirst()))
+                .isEqualTo(0L);
+    }
+
+    @Test
+    public void testLoadBinaryFormatOfUnknownVersion() throws IOException {
+        final Configuration config = new DefaultConfiguration("myName");
+        final File cacheFile = new File(temporaryFolder, "junit_" + UUID.randomUUID() + ".cache");
+        Files.write(cacheFile.toPath(), new byte[] {0x43, 0x53, 0x43, 0x48, 0, 0, 0, 99});
+        final PropertyCacheFile cache = new PropertyCacheFile(config, cacheFile.getPath());
+        cache.setContentHashEnabled(true);
+        cache.load();
+
+        assertWithMessage("Config hash key should not be null")
+                .that(cache.get(PropertyCacheFile.CONFIG_HASH_KEY))
+                .isNotNull();
+    }
+
     @Test
     public void testResetIfFileDoesNotExist() throws IOException {
         final Configuration config = new DefaultConfiguration("myName");
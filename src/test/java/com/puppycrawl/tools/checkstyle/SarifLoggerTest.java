@@ -482,6 +482,64 @@ public class SarifLoggerTest extends AbstractModuleTestSupport {
                 getPath(inputFile), getPath(expectedReportFile), logger, outStream);
     }
 
+    /**
+     * The results must reach the output stream while the audit is running, which is not
+     * observable through verifyWithInlineConfigParserAndLogger, so this test calls
+     * the logger callbacks directly.
+     */
+    @Test
+    public void testResultsAreWrittenBeforeAuditFinished() throws IOException {
+        final SarifLogger logger = new SarifLogger(outStream,
+                OutputStreamOptions.CLOSE);
+        logger.setStreaming(true);
+        logger.auditStarted(null);
+        final Violation violation =
+                new Violation(1, 1,
+                        "messages.properties", "ruleId", null, SeverityLevel.ERROR, null,
+                        getClass(), "found an error");
+        final AuditEvent ev = new AuditEvent(this, "Test.java", violation);
+        for (int index = 0; index < 100; index++) {
+            logger.addError(ev);
+        }
+        final String written = toLfLineEnding(outStream.toString(StandardCharsets.UTF_8));
+        assertWithMessage("Results should be written before the audit is finished")
+            .that(written)
+            .contains("\"results\": [\n        {\n          \"level\": \"error\"");
+        assertWithMessage("Rules should not be written before the audit is finished")
+            .that(written)
+            .doesNotContain("\"rules\"");
+
+        logger.auditFinished(null);
+        final String report = toLfLineEnding(outStream.toString(StandardCharsets.UTF_8));
+        assertWithMessage("All results should be written")
+            .that(report.split("\"ruleId\": ", -1))
+            .hasLength(101);
+        assertWithMessage("Rules should be written after the results")
+            .that(report.indexOf("\"rules\""))
+            .isGreaterThan(report.lastIndexOf("\"ruleId\""));
+    }
+
+    @Test
+    public void testResultsAreWrittenWhenAuditFinishedByDefault() throws IOException {
+        final SarifLogger logger = new SarifLogger(outStream,
+                OutputStreamOptions.CLOSE);
+        logger.auditStarted(null);
+        final Violation violation =
+                new Violation(1, 1,
+                        "messages.properties", "ruleId", null, SeverityLevel.ERROR, null,
+                        getClass(), "found an error");
+        logger.addError(new AuditEvent(this, "Test.java", violation));
+        assertWithMessage("Nothing should be written before the audit is finished")
+            .that(outStream.size())
+            .isEqualTo(0);
+
+        logger.auditFinished(null);
+        final String report = toLfLineEnding(outStream.toString(StandardCharsets.UTF_8));
+        assertWithMessage("Results should be written after the rules")
+            .that(report.indexOf("\"results\""))
+            .isGreaterThan(report.indexOf("\"rules\""));
+    }
+
     /**
      * SarifLogger.readResource(String) is a static utility method that loads
      * classpath resources directly. Passing an invalid name triggers an IOException
@@ -45,13 +45,10 @@ public class ThreadModeSettingsTest {
     public void testResolveCheckerInMultiThreadMode() {
         final ThreadModeSettings configuration = new ThreadModeSettings(2, 2);
 
-        final IllegalArgumentException exc =
-                getExpectedThrowable(IllegalArgumentException.class, () -> {
-                    configuration.resolveName(ThreadModeSettings.CHECKER_MODULE_NAME);
-                }, "An exception is expected");
-        assertWithMessage("Invalid exception message")
-                .that(exc.getMessage())
-                .isEqualTo("Multi thread mode for Checker module is not implemented");
+        final String name = configuration.resolveName(ThreadModeSettings.CHECKER_MODULE_NAME);
+        assertWithMessage("Invalid name resolved")
+                .that(name)
+                .isEqualTo(ThreadModeSettings.MULTI_THREAD_CHECKER_MODULE_NAME);
     }
 
     @Test
@@ -77,6 +74,16 @@ public class ThreadModeSettingsTest {
                 .isEqualTo("Multi thread mode for TreeWalker module is not implemented");
     }
 
+    @Test
+    public void testResolveTreeWalkerInMultiThreadCheckerMode() {
+        final ThreadModeSettings configuration = new ThreadModeSettings(2, 1);
+        final String actual =
+                configuration.resolveName(ThreadModeSettings.TREE_WALKER_MODULE_NAME);
+        assertWithMessage("Invalid name resolved: %s", actual)
+                .that(actual)
+                .isEqualTo(ThreadModeSettings.TREE_WALKER_MODULE_NAME);
+    }
+
     @Test
     public void testResolveTreeWalkerInSingleThreadMode() {
         final ThreadModeSettings singleThreadMode = ThreadModeSettings.SINGLE_THREAD_MODE_INSTANCE;
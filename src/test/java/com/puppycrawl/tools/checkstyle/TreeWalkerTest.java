@@ -55,21 +55,31 @@ import org.mockito.Mockito;
 import org.mockito.internal.util.Checks;
 
 import com.puppycrawl.tools.checkstyle.AbstractAutomaticBean.OutputStreamOptions;
+import com.puppycrawl.tools.checkstyle.JavadocDetailNodeParser.ParseStatus;
 import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
 import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
 import com.puppycrawl.tools.checkstyle.api.Configuration;
 import com.puppycrawl.tools.checkstyle.api.Context;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.DetailNode;
 import com.puppycrawl.tools.checkstyle.api.FileContents;
 import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.api.JavadocCommentsTokenTypes;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+import com.puppycrawl.tools.checkstyle.api.Violation;
 import com.puppycrawl.tools.checkstyle.checks.NoCodeInFileCheck;
+import com.puppycrawl.tools.checkstyle.checks.TodoCommentCheck;
+import com.puppycrawl.tools.checkstyle.checks.UpperEllCheck;
 import com.puppycrawl.tools.checkstyle.checks.coding.EmptyStatementCheck;
 import com.puppycrawl.tools.checkstyle.checks.coding.HiddenFieldCheck;
 import com.puppycrawl.tools.checkstyle.checks.design.OneTopLevelClassCheck;
 import com.puppycrawl.tools.checkstyle.checks.indentation.CommentsIndentationCheck;
+import com.puppycrawl.tools.checkstyle.checks.javadoc.AbstractJavadocCheck;
+import com.puppycrawl.tools.checkstyle.checks.javadoc.AtclauseOrderCheck;
 import com.puppycrawl.tools.checkstyle.checks.javadoc.JavadocPackageCheck;
 import com.puppycrawl.tools.checkstyle.checks.javadoc.JavadocParagraphCheck;
+import com.puppycrawl.tools.checkstyle.checks.javadoc.JavadocTypeCheck;
+import com.puppycrawl.tools.checkstyle.checks.javadoc.NonEmptyAtclauseDescriptionCheck;
 import com.puppycrawl.tools.checkstyle.checks.naming.ConstantNameCheck;
 import com.puppycrawl.tools.checkstyle.checks.naming.MemberNameCheck;
 import com.puppycrawl.tools.checkstyle.checks.naming.ParameterNameCheck;
@@ -484,6 +494,233 @@ public class TreeWalkerTest extends AbstractModuleTestSupport {
             .isEqualTo(99);
     }
 
+    @Test
+    public void testSetupChildAfterProcessing() throws Exception {
+        final TreeWalker treeWalker = new TreeWalker();
+        final PackageObjectFactory factory = new PackageObjectFactory(
+                new HashSet<>(), Thread.currentThread().getContextClassLoader());
+        treeWalker.setModuleFactory(factory);
+        treeWalker.finishLocalSetup();
+        treeWalker.setupChild(createModuleConfig(TypeNameCheck.class));
+        final File file = new File(temporaryFolder, "file.java");
+        final FileText fileText = new FileText(file, List.of("class a { int B; }"));
+
+        assertWithMessage("Invalid number of violations")
+            .that(treeWalker.process(file, fileText))
+            .hasSize(1);
+
+        treeWalker.setupChild(createModuleConfig(MemberNameCheck.class));
+
+        assertWithMessage("Check added after processing must be notified")
+            .that(treeWalker.process(file, fileText))
+            .hasSize(2);
+    }
+
+    @Test
+    public void testTokenStreamChecksDoNotParseFile() throws Exception {
+        final TreeWalker treeWalker = new TreeWalker();
+        final PackageObjectFactory factory = new PackageObjectFactory(
+                new HashSet<>(), Thread.currentThread().getContextClassLoader());
+        treeWalker.setModuleFactory(factory);
+        treeWalker.setSkipJavaParse(true);
+        treeWalker.finishLocalSetup();
+        treeWalker.setupChild(createModuleConfig(UpperEllCheck.class));
+        treeWalker.setupChild(createModuleConfig(TodoCommentCheck.class));
+        final File file = new File(temporaryFolder, "file.java");
+        final FileText fileText = new FileText(file,
+                List.of("class {", "    long a = 1l; // TODO: fix"));
+
+        assertWithMessage("Invalid number of violations")
+            .that(treeWalker.process(file, fileText))
+            .hasSize(2);
+
+        treeWalker.setupChild(createModuleConfig(TypeNameCheck.class));
+
+        getExpectedThrowable(CheckstyleException.class,
+                () -> treeWalker.process(file, fileText),
+                "File should be parsed for a check which needs the AST");
+    }
+
+    @Test
+    public void testTokenStreamChecksParseUnparsableFileByDefault() throws Exception {
+        final TreeWalker treeWalker = new TreeWalker();
+        final PackageObjectFactory factory = new PackageObjectFactory(
+                new HashSet<>(), Thread.currentThread().getContextClassLoader());
+        treeWalker.setModuleFactory(factory);
+        treeWalker.finishLocalSetup();
+        treeWalker.setupChild(createModuleConfig(UpperEllCheck.class));
+        treeWalker.setupChild(createModuleConfig(TodoCommentCheck.class));
+        final File file = new File(temporaryFolder, "file.java");
+        final FileText fileText = new FileText(file,
+                List.of("class {", "    long a = 1l; // TODO: fix"));
+
+        getExpectedThrowable(CheckstyleException.class,
+                () -> treeWalker.process(file, fileText),
+                "Unparsable file should be reported unless parsing is skipped");
+
+        treeWalker.setSkipFileOnJavaParseException(true);
+        final List<Violation> violations = new ArrayList<>(treeWalker.process(file, fileText));
+        assertWithMessage("Invalid number of violations")
+            .that(violations)
+            .hasSize(1);
+        assertWithMessage("Parse exception should be logged as violation")
+            .that(violations.getFirst().getKey())
+            .isEqualTo(TreeWalker.PARSE_EXCEPTION_MSG);
+    }
+
+    @Test
+    public void testTokenStreamChecksSkipParseOfUnparsableFile() throws Exception {
+        final TreeWalker treeWalker = new TreeWalker();
+        final PackageObjectFactory factory = new PackageObjectFactory(
+                new HashSet<>(), Thread.currentThread().getContextClassLoader());
+        treeWalker.setModuleFactory(factory);
+        treeWalker.setSkipJavaParse(true);
+        treeWalker.setSkipFileOnJavaParseException(true);
+        treeWalker.finishLocalSetup();
+        treeWalker.setupChild(createModuleConfig(UpperEllCheck.class));
+        treeWalker.setupChild(createModuleConfig(TodoCommentCheck.class));
+        final File file = new File(temporaryFolder, "file.java");
+        final FileText fileText = new FileText(file,
+                List.of("class {", "    long a = 1l; // TODO: fix"));
+
+        final List<Violation> violations = new ArrayList<>(treeWalker.process(file, fileText));
+        assertWithMessage("Parse exception should not be logged when parsing is skipped")
+            .that(violations.stream().map(Violation::getKey).toList())
+            .doesNotContain(TreeWalker.PARSE_EXCEPTION_MSG);
+        assertWithMessage("Invalid number of violations")
+            .that(violations)
+            .hasSize(2);
+    }
+
+    @Test
+    public void testJavadocChecksShareJavadocWalk() throws Exception {
+        final TreeWalker treeWalker = new TreeWalker();
+        final PackageObjectFactory factory = new PackageObjectFactory(
+                new HashSet<>(), Thread.currentThread().getContextClassLoader());
+        treeWalker.setModuleFactory(factory);
+        treeWalker.finishLocalSetup();
+        treeWalker.setupChild(createModuleConfig(JavadocParagraphCheck.class));
+        treeWalker.setupChild(createModuleConfig(AtclauseOrderCheck.class));
+        treeWalker.setupChild(createModuleConfig(JavadocTypeCheck.class));
+        final File file = new File(temporaryFolder, "file.java");
+        final FileText fileText = new FileText(file, List.of(
+                "/**", " * Summary.", " *", " * Text.", " * @since 1", " * @author a", " */",
+                "class A {}"));
+
+        assertWithMessage("Invalid number of violations")
+            .that(treeWalker.process(file, fileText))
+            .hasSize(2);
+        assertWithMessage("Only checks visiting javadoc tokens should share the javadoc walk")
+            .that(TestUtil.getInternalStateCollectionChecks(treeWalker, "javadocChecks"))
+            .hasSize(2);
+    }
+
+    @Test
+    public void testJavadocWalkIsSharedOnlyOnRequest() throws Exception {
+        final TreeWalker treeWalker = new TreeWalker();
+        final PackageObjectFactory factory = new PackageObjectFactory(
+                new HashSet<>(), Thread.currentThread().getContextClassLoader());
+        treeWalker.setModuleFactory(factory);
+        treeWalker.finishLocalSetup();
+        treeWalker.setupChild(createModuleConfig(SharedJavadocWalkCheck.class));
+        treeWalker.setupChild(createModuleConfig(OwnJavadocWalkCheck.class));
+        final File file = new File(temporaryFolder, "file.java");
+        final FileText fileText = new FileText(file, List.of(
+                "/**", " * Summary.", " */", "class A {}"));
+
+        assertWithMessage("Invalid number of violations")
+            .that(treeWalker.process(file, fileText))
+            .isEmpty();
+        assertWithMessage("Javadoc walk should be shared only for the check supporting it")
+            .that(TestUtil.getInternalStateCollectionChecks(treeWalker, "javadocChecks"))
+            .hasSize(1);
+        assertWithMessage("Javadoc text should be visited for the check sharing the walk")
+            .that(SharedJavadocWalkCheck.visitCount)
+            .isGreaterThan(0);
+        assertWithMessage("Javadoc text should be visited the same for both walks")
+            .that(SharedJavadocWalkCheck.visitCount)
+            .isEqualTo(OwnJavadocWalkCheck.visitCount);
+    }
+
+    @Test
+    public void testJavadocIsParsedOnceForSharedAndOwnWalks() throws Exception {
+        final TreeWalker treeWalker = new TreeWalker();
+        final PackageObjectFactory factory = new PackageObjectFactory(
+                new HashSet<>(), Thread.currentThread().getContextClassLoader());
+        treeWalker.setModuleFactory(factory);
+        treeWalker.finishLocalSetup();
+        treeWalker.setupChild(createModuleConfig(JavadocParagraphCheck.class));
+        treeWalker.setupChild(createModuleConfig(JavadocTypeCheck.class));
+        final CountingJavadocDetailNodeParser parser = new CountingJavadocDetailNodeParser();
+        TestUtil.setInternalState(treeWalker, "javadocParser", parser);
+        for (Object check : TestUtil.getInternalState(treeWalker, "commentChecks", Set.class)) {
+            final ThreadLocal<?> context =
+                    TestUtil.getInternalState(check, "context", ThreadLocal.class);
+            TestUtil.setInternalState(context.get(), "parser", parser);
+        }
+        final File file = new File(temporaryFolder, "file.java");
+        final FileText fileText = new FileText(file, List.of(
+                "/**", " * Summary.", " * @author a", " */", "class A {}"));
+
+        assertWithMessage("Invalid number of violations")
+            .that(treeWalker.process(file, fileText))
+            .isEmpty();
+        assertWithMessage("Javadoc comment should be parsed once for all javadoc checks")
+            .that(parser.parseCount)
+            .isEqualTo(1);
+    }
+
+    @Test
+    public void testPlainJavadocIsNotParsedForBlockTagChecks() throws Exception {
+        final TreeWalker treeWalker = new TreeWalker();
+        final PackageObjectFactory factory = new PackageObjectFactory(
+                new HashSet<>(), Thread.currentThread().getContextClassLoader());
+        treeWalker.setModuleFactory(factory);
+        treeWalker.finishLocalSetup();
+        treeWalker.setupChild(createModuleConfig(NonEmptyAtclauseDescriptionCheck.class));
+        // produces NPE if used
+        TestUtil.setInternalState(treeWalker, "javadocParser", null);
+        final File file = new File(temporaryFolder, "file.java");
+        final FileText fileText = new FileText(file, List.of(
+                "/**", " * Summary.", " */", "class A {}"));
+
+        assertWithMessage("Invalid number of violations")
+            .that(treeWalker.process(file, fileText))
+            .isEmpty();
+    }
+
+    @Test
+    public void testShareChecks() throws Exception {
+        final DefaultConfiguration treeWalkerConfig = createModuleConfig(TreeWalker.class);
+        treeWalkerConfig.addChild(createModuleConfig(TypeNameCheck.class));
+        treeWalkerConfig.addChild(createModuleConfig(HiddenFieldCheck.class));
+        final PackageObjectFactory factory = new PackageObjectFactory(
+                new HashSet<>(), Thread.currentThread().getContextClassLoader());
+
+        final TreeWalker original = new TreeWalker();
+        original.setModuleFactory(factory);
+        original.configure(treeWalkerConfig);
+        final TreeWalker copy = new TreeWalker();
+        copy.setModuleFactory(factory);
+        copy.shareChecks(original);
+        copy.configure(treeWalkerConfig);
+
+        final Set<?> originalChecks =
+                TestUtil.getInternalState(original, "ordinaryChecks", Set.class);
+        final Set<?> copyChecks = TestUtil.getInternalState(copy, "ordinaryChecks", Set.class);
+        final Set<Object> commonChecks = new HashSet<>(originalChecks);
+        commonChecks.retainAll(copyChecks);
+        assertWithMessage("Invalid number of checks")
+            .that(copyChecks)
+            .hasSize(2);
+        assertWithMessage("Only stateless check must be shared")
+            .that(commonChecks)
+            .hasSize(1);
+        assertWithMessage("Stateless check must be shared")
+            .that(commonChecks.iterator().next())
+            .isInstanceOf(TypeNameCheck.class);
+    }
+
     @Test
     public void testBehaviourWithChecksAndFilters() throws Exception {
 
@@ -837,6 +1074,73 @@ public class TreeWalkerTest extends AbstractModuleTestSupport {
                 dl, infoStream, errorStream);
     }
 
+    private static final class CountingJavadocDetailNodeParser
+            extends JavadocDetailNodeParser {
+
+        private int parseCount;
+
+        @Override
+        public ParseStatus parseJavadocComment(DetailAST javadocCommentAst) {
+            parseCount++;
+            return super.parseJavadocComment(javadocCommentAst);
+        }
+
+    }
+
+    public static class SharedJavadocWalkCheck extends AbstractJavadocCheck {
+
+        private static int visitCount;
+
+        @Override
+        public int[] getDefaultJavadocTokens() {
+            return new int[] {JavadocCommentsTokenTypes.TEXT};
+        }
+
+        @Override
+        public boolean isSharedJavadocWalkSupported() {
+            return true;
+        }
+
+        @Override
+        public void beginTree(DetailAST rootAST) {
+            super.beginTree(rootAST);
+            visitCount = 0;
+        }
+
+        @Override
+        public void visitJavadocToken(DetailNode ast) {
+            visitToken(ast.getText());
+        }
+
+        // does not override visitToken(DetailAST)
+        public void visitToken(String text) {
+            visitCount++;
+        }
+
+    }
+
+    public static class OwnJavadocWalkCheck extends AbstractJavadocCheck {
+
+        private static int visitCount;
+
+        @Override
+        public int[] getDefaultJavadocTokens() {
+            return new int[] {JavadocCommentsTokenTypes.TEXT};
+        }
+
+        @Override
+        public void beginTree(DetailAST rootAST) {
+            super.beginTree(rootAST);
+            visitCount = 0;
+        }
+
+        @Override
+        public void visitJavadocToken(DetailNode ast) {
+            visitCount++;
+        }
+
+    }
+
     public static class BadJavaDocCheck extends AbstractCheck {
 
         @Override
@@ -866,6 +866,30 @@ public class CheckstyleAntTaskTest extends AbstractPathTestSupport {
                 .isInstanceOf(SarifLogger.class);
     }
 
+    @Test
+    public final void testSarifStreamingOutput() throws IOException {
+        final CheckstyleAntTask antTask = getCheckstyleAntTask();
+        antTask.setFile(new File(getPath(VIOLATED_INPUT)));
+        antTask.setFailOnViolation(false);
+        final CheckstyleAntTask.Formatter formatter = new CheckstyleAntTask.Formatter();
+        final File outputFile = new File(temporaryFolder, "log.sarif");
+        formatter.setTofile(outputFile);
+        formatter.setStreaming(true);
+        final CheckstyleAntTask.FormatterType formatterType = new CheckstyleAntTask.FormatterType();
+        formatterType.setValue("sarif");
+        formatter.setType(formatterType);
+        antTask.addFormatter(formatter);
+        antTask.execute();
+
+        final String output = Files.readString(outputFile.toPath());
+        assertWithMessage("Results should be streamed before the tool")
+            .that(output.indexOf("\"results\""))
+            .isLessThan(output.indexOf("\"tool\""));
+        assertWithMessage("Violations should be reported")
+            .that(output)
+            .contains("\"ruleId\"");
+    }
+
     @Test
     public void testSarifLoggerWithNullToFile() throws IOException {
         final CheckstyleAntTask.FormatterType formatterType = new CheckstyleAntTask.FormatterType();
@@ -116,6 +116,9 @@ public class AbstractCheckTest extends AbstractModuleTestSupport {
         assertWithMessage("unexpected result")
                 .that(check.isCommentNodesRequired())
                 .isFalse();
+        assertWithMessage("unexpected result")
+                .that(check.isTokenStreamSupported())
+                .isFalse();
     }
 
     @Test
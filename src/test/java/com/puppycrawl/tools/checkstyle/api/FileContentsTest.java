@@ -51,6 +51,16 @@ public class FileContentsTest {
                 .isEqualTo("filename");
     }
 
+    @Test
+    public void testTextIsNotCopied() {
+        final FileText fileText = new FileText(new File("filename"), Arrays.asList("123", "456"));
+        final FileContents fileContents = new FileContents(fileText);
+
+        assertWithMessage("Text should be shared")
+                .that(fileContents.getText())
+                .isSameInstanceAs(fileText);
+    }
+
     @Test
     public void testIsLineBlank() {
         assertWithMessage("Invalid result")
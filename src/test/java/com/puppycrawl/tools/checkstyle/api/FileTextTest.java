@@ -27,12 +27,14 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import com.puppycrawl.tools.checkstyle.AbstractPathTestSupport;
 import com.puppycrawl.tools.checkstyle.internal.utils.CheckUtil;
@@ -40,6 +42,9 @@ import com.puppycrawl.tools.checkstyle.internal.utils.TestUtil;
 
 public class FileTextTest extends AbstractPathTestSupport {
 
+    @TempDir
+    public File temporaryFolder;
+
     @Override
     public String getPackageLocation() {
         return "com/puppycrawl/tools/checkstyle/api/filetext";
@@ -114,9 +119,9 @@ public class FileTextTest extends AbstractPathTestSupport {
         final String filepath = getPath("InputFileTextImportControl.xml");
         final FileText fileText = new FileText(new File(filepath), charset.name());
         final FileText copy = new FileText(fileText);
-        assertWithMessage("LineBreaks not null")
+        assertWithMessage("LineBreaks not shared")
                 .that(TestUtil.getInternalState(copy, "lineBreaks", int[].class))
-                .isNull();
+                .isSameInstanceAs(TestUtil.getInternalState(fileText, "lineBreaks", int[].class));
         final LineColumn lineColumn = copy.lineColumn(100);
         assertWithMessage("Invalid line")
                 .that(lineColumn.getLine())
@@ -194,6 +199,50 @@ public class FileTextTest extends AbstractPathTestSupport {
                 .isEqualTo(lineBreaks);
     }
 
+    @Test
+    public void testLinesWithCrLf() throws IOException {
+        final FileText fileText = createFileText("ab\r\ncd\r\n");
+        assertWithMessage("Invalid lines")
+                .that(fileText.toLinesArray())
+                .isEqualTo(new String[] {"ab", "cd"});
+        assertWithMessage("Invalid line column")
+                .that(fileText.lineColumn(4))
+                .isEqualTo(new LineColumn(2, 0));
+    }
+
+    @Test
+    public void testLinesWithCr() throws IOException {
+        final FileText fileText = createFileText("ab\rcd\r\r");
+        assertWithMessage("Invalid lines")
+                .that(fileText.toLinesArray())
+                .isEqualTo(new String[] {"ab", "cd", ""});
+        assertWithMessage("Invalid line column")
+                .that(fileText.lineColumn(4))
+                .isEqualTo(new LineColumn(2, 1));
+    }
+
+    @Test
+    public void testLinesWithoutTrailingLineTerminator() throws IOException {
+        final FileText fileText = createFileText("ab\ncd");
+        assertWithMessage("Invalid lines")
+                .that(fileText.toLinesArray())
+                .isEqualTo(new String[] {"ab", "cd"});
+        assertWithMessage("Invalid line column")
+                .that(fileText.lineColumn(4))
+                .isEqualTo(new LineColumn(2, 1));
+    }
+
+    @Test
+    public void testLinesOfEmptyFile() throws IOException {
+        final FileText fileText = createFileText("");
+        assertWithMessage("Empty file should have no lines")
+                .that(fileText.size())
+                .isEqualTo(0);
+        assertWithMessage("Invalid line breaks")
+                .that(TestUtil.getInternalState(fileText, "lineBreaks", int[].class))
+                .isEqualTo(new int[] {0});
+    }
+
     @Test
     public void testCharsetAfterCopyConstructor() throws IOException {
         final Charset charset = StandardCharsets.ISO_8859_1;
@@ -204,4 +253,28 @@ public class FileTextTest extends AbstractPathTestSupport {
                 .that(copy.getCharset()).isNotNull();
     }
 
+    @Test
+    public void testLinesAreCutOnDemand() throws IOException {
+        final String charsetName = StandardCharsets.ISO_8859_1.name();
+        final FileText fileText = new FileText(new File(getPath("InputFileTextImportControl.xml")),
+                charsetName);
+        final String[] lines = TestUtil.getInternalState(fileText, "lines", String[].class);
+        assertWithMessage("Line should not be cut before it is requested")
+                .that(lines[1])
+                .isNull();
+        final String line = fileText.get(1);
+        assertWithMessage("Line should be kept once it is requested")
+                .that(fileText.get(1))
+                .isSameInstanceAs(line);
+        assertWithMessage("Other lines should not be cut")
+                .that(lines[0])
+                .isNull();
+    }
+
+    private FileText createFileText(String text) throws IOException {
+        final File file = new File(temporaryFolder, "InputFileText.java");
+        Files.writeString(file.toPath(), text, StandardCharsets.UTF_8);
+        return new FileText(file, StandardCharsets.UTF_8.name());
+    }
+
 }
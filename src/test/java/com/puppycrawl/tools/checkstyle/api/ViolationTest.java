@@ -22,9 +22,12 @@ package com.puppycrawl.tools.checkstyle.api;
 import static com.google.common.truth.Truth.assertWithMessage;
 import static com.puppycrawl.tools.checkstyle.utils.CommonUtil.EMPTY_OBJECT_ARRAY;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 import org.junitpioneer.jupiter.DefaultLocale;
 
+import com.puppycrawl.tools.checkstyle.LocalizedMessage;
 import com.puppycrawl.tools.checkstyle.checks.annotation.AnnotationLocationCheck;
 import com.puppycrawl.tools.checkstyle.checks.annotation.AnnotationOnSameLineCheck;
 import nl.jqno.equalsverifier.EqualsVerifier;
@@ -78,7 +81,40 @@ public class ViolationTest {
             .isEqualTo("Empty statement.");
     }
 
-    @DefaultLocale("fr")
+    @Test
+    public void testViolationFollowsLocale() {
+        final Violation violation = createSampleViolation();
+        try {
+            LocalizedMessage.setLocale(Locale.ENGLISH);
+            assertWithMessage("Invalid violation")
+                .that(violation.getViolation())
+                .isEqualTo("Empty statement.");
+
+            LocalizedMessage.setLocale(Locale.FRENCH);
+            assertWithMessage("Violation should be formatted in the new locale")
+                .that(violation.getViolation())
+                .isEqualTo("Instruction vide.");
+        }
+        finally {
+            LocalizedMessage.setLocale(Locale.ENGLISH);
+        }
+    }
+
+    @Test
+    public void testCustomMessageFormatIsShared() {
+        final Violation first = new Violation(1, "bundle", "key", new Object[] {"first"},
+                "module", Violation.class, "Custom {0}");
+        final Violation second = new Violation(1, "bundle", "key", new Object[] {"second"},
+                "module", Violation.class, "Custom {0}");
+
+        assertWithMessage("Invalid violation")
+            .that(first.getViolation())
+            .isEqualTo("Custom first");
+        assertWithMessage("Invalid violation")
+            .that(second.getViolation())
+            .isEqualTo("Custom second");
+    }
+
     @Test
     public void testGetKey() {
         final Violation violation = createSampleViolation();
@@ -556,6 +556,44 @@ public class AbstractJavadocCheckTest extends AbstractModuleTestSupport {
                 getPath("InputAbstractJavadocLeaveToken.java"), expected);
     }
 
+    @Test
+    public void testSharedJavadocWalkSupported() {
+        assertWithMessage("Shared javadoc walk should not be supported by default")
+                .that(new ParseJavadocOnlyCheck().isSharedJavadocWalkSupported())
+                .isFalse();
+        assertWithMessage("Shared javadoc walk should be supported by a check visiting "
+                    + "javadoc tokens only")
+                .that(new JavadocParagraphCheck().isSharedJavadocWalkSupported())
+                .isTrue();
+        assertWithMessage("Shared javadoc walk should not be supported by a check visiting "
+                    + "other tokens")
+                .that(new JavadocTypeCheck().isSharedJavadocWalkSupported())
+                .isFalse();
+    }
+
+    @Test
+    public void testPlainJavadocProcessed() {
+        final NonEmptyAtclauseDescriptionCheck blockTagCheck =
+                new NonEmptyAtclauseDescriptionCheck();
+        blockTagCheck.init();
+        assertWithMessage("Plain javadoc should not be processed by a block tag check")
+                .that(blockTagCheck.isPlainJavadocProcessed())
+                .isFalse();
+
+        final SummaryJavadocCheck contentCheck = new SummaryJavadocCheck();
+        contentCheck.init();
+        assertWithMessage("Plain javadoc should be processed by a check of the content")
+                .that(contentCheck.isPlainJavadocProcessed())
+                .isTrue();
+
+        final JavadocThrowsOrderCheck treeCheck = new JavadocThrowsOrderCheck();
+        treeCheck.init();
+        assertWithMessage("Plain javadoc should not be processed by a block tag check "
+                    + "which is notified of each tree")
+                .that(treeCheck.isPlainJavadocProcessed())
+                .isFalse();
+    }
+
     public static class JavadocLeaveTokenCheck extends AbstractJavadocCheck {
 
         private static int visitCount;
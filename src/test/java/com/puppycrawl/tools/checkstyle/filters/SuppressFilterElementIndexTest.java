@@ -0,0 +1,85 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2026 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.filters;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.FilterSet;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+
+public class SuppressFilterElementIndexTest {
+
+    @Test
+    public void testAcceptLikeFilterSet() {
+        final FilterSet filterSet = new FilterSet();
+        filterSet.addFilter(new SuppressFilterElement("ATest", "Index", null, null, "1-5", null));
+        filterSet.addFilter(new SuppressFilterElement("ATest", "String", null, null, null, null));
+        filterSet.addFilter(new SuppressFilterElement("BTest", null, "bad", null, null, null));
+        filterSet.addFilter(new SuppressFilterElement(null, "Index", null, null, "20", null));
+        filterSet.addFilter(new SuppressFilterElement("C.*", null, null, "id", null, null));
+        filterSet.addFilter(event -> event.getViolation() == null || event.getLine() != 30);
+        final SuppressFilterElementIndex index =
+                new SuppressFilterElementIndex(filterSet.getFilters());
+
+        final List<AuditEvent> events = List.of(
+                createEvent("ATest.java", 1, getClass(), null, ""),
+                createEvent("ATest.java", 6, getClass(), null, ""),
+                createEvent("ATest.java", 6, String.class, null, ""),
+                createEvent("BTest.java", 1, getClass(), null, "bad"),
+                createEvent("BTest.java", 20, getClass(), null, "good"),
+                createEvent("BTest.java", 21, getClass(), null, "good"),
+                createEvent("ATest.java", 3, getClass(), null, ""),
+                createEvent("CTest.java", 1, String.class, "id", ""),
+                createEvent("CTest.java", 1, String.class, "other", ""),
+                createEvent("CTest.java", 30, String.class, "other", ""),
+                new AuditEvent(this, "ATest.java"),
+                new AuditEvent(this, null,
+                        new Violation(1, 0, "", "", null, null, getClass(), null)));
+        for (int eventIndex = 0; eventIndex < events.size(); eventIndex++) {
+            final AuditEvent event = events.get(eventIndex);
+            assertWithMessage("Event %s should be filtered like with a filter set", eventIndex)
+                    .that(index.accept(event))
+                    .isEqualTo(filterSet.accept(event));
+        }
+    }
+
+    @Test
+    public void testAcceptWithoutFilters() {
+        final SuppressFilterElementIndex index =
+                new SuppressFilterElementIndex(new FilterSet().getFilters());
+
+        assertWithMessage("Event should be accepted without filters")
+                .that(index.accept(createEvent("ATest.java", 1, getClass(), null, "")))
+                .isTrue();
+    }
+
+    private AuditEvent createEvent(String fileName, int line, Class<?> sourceClass,
+            String moduleId, String message) {
+        final Violation violation =
+                new Violation(line, 0, "", "", null, moduleId, sourceClass, message);
+        return new AuditEvent(this, fileName, violation);
+    }
+
+}
@@ -0,0 +1,119 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2026 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.grammar;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+import static com.puppycrawl.tools.checkstyle.internal.utils.TestUtil.getExpectedThrowable;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+import org.junit.jupiter.api.Test;
+
+public class CharSequenceCharStreamTest {
+
+    @Test
+    public void testCreateWithoutSurrogates() {
+        final CharStream stream = CharSequenceCharStream.create("class A {}");
+
+        assertWithMessage("Text without surrogates should not be copied")
+                .that(stream)
+                .isInstanceOf(CharSequenceCharStream.class);
+    }
+
+    @Test
+    public void testCreateWithSurrogates() {
+        final String text = "class \uD801\uDC00 {}";
+        final CharStream stream = CharSequenceCharStream.create(text);
+
+        assertWithMessage("Text with surrogates should be read by code points")
+                .that(stream)
+                .isNotInstanceOf(CharSequenceCharStream.class);
+        assertWithMessage("Invalid size")
+                .that(stream.size())
+                .isEqualTo(text.codePointCount(0, text.length()));
+    }
+
+    @Test
+    public void testSameAsCodePointStream() {
+        final String text = "int a;\r\n\u0000// b";
+        final CharStream stream = CharSequenceCharStream.create(text);
+        final CharStream expected = CharStreams.fromString(text);
+
+        while (expected.LA(1) != IntStream.EOF) {
+            for (int offset = -2; offset <= 2; offset++) {
+                assertWithMessage("Invalid character at offset " + offset)
+                        .that(stream.LA(offset))
+                        .isEqualTo(expected.LA(offset));
+            }
+            stream.consume();
+            expected.consume();
+        }
+        assertWithMessage("Invalid character at the end")
+                .that(stream.LA(1))
+                .isEqualTo(IntStream.EOF);
+        assertWithMessage("Invalid index")
+                .that(stream.index())
+                .isEqualTo(expected.index());
+        assertWithMessage("Invalid size")
+                .that(stream.size())
+                .isEqualTo(expected.size());
+        assertWithMessage("Invalid text")
+                .that(stream.getText(Interval.of(4, 20)))
+                .isEqualTo(expected.getText(Interval.of(4, 20)));
+        assertWithMessage("Invalid text of empty interval")
+                .that(stream.getText(Interval.of(3, 2)))
+                .isEqualTo(expected.getText(Interval.of(3, 2)));
+        assertWithMessage("Invalid source name")
+                .that(stream.getSourceName())
+                .isEqualTo(expected.getSourceName());
+        assertWithMessage("Invalid string")
+                .that(stream.toString())
+                .isEqualTo(text);
+    }
+
+    @Test
+    public void testSeekAndMark() {
+        final CharStream stream = CharSequenceCharStream.create("abc");
+        final int marker = stream.mark();
+        stream.seek(2);
+        stream.release(marker);
+
+        assertWithMessage("Invalid character after seek")
+                .that(stream.LA(1))
+                .isEqualTo('c');
+        assertWithMessage("Invalid index after seek")
+                .that(stream.index())
+                .isEqualTo(2);
+    }
+
+    @Test
+    public void testConsumeEof() {
+        final CharStream stream = CharSequenceCharStream.create("");
+
+        final IllegalStateException exception = getExpectedThrowable(
+                IllegalStateException.class, stream::consume, "EOF can not be consumed");
+        assertWithMessage("Invalid exception message")
+                .that(exception.getMessage())
+                .isEqualTo("cannot consume EOF");
+    }
+
+}
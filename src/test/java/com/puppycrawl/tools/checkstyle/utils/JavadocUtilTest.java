@@ -251,6 +251,30 @@ public class JavadocUtilTest extends AbstractModuleTestSupport {
                 .isTrue();
     }
 
+    @Test
+    public void testPlainJavadocComment() {
+        final String[][] comments = {
+            {"* Text.\n * More text, {code}. ", "true"},
+            {"* Text.\n * @return text ", "false"},
+            {"* Text {@code text}. ", "false"},
+            {"* Text <p> text. ", "false"},
+        };
+        for (String[] comment : comments) {
+            final DetailAstImpl commentBegin = new DetailAstImpl();
+            commentBegin.setType(TokenTypes.BLOCK_COMMENT_BEGIN);
+            commentBegin.setText("/*");
+
+            final DetailAstImpl commentContent = new DetailAstImpl();
+            commentContent.setType(TokenTypes.COMMENT_CONTENT);
+            commentContent.setText(comment[0]);
+            commentBegin.setFirstChild(commentContent);
+
+            assertWithMessage("Invalid plain javadoc comment: " + comment[0])
+                    .that(JavadocUtil.isPlainJavadocComment(commentBegin))
+                    .isEqualTo(Boolean.parseBoolean(comment[1]));
+        }
+    }
+
     @Test
     public void testEmptyJavadocCommentAst() {
         final DetailAstImpl commentBegin = new DetailAstImpl();